@@ -1,5 +1,280 @@
+import com.api.automation.client.ApiClient;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk export CLI: runs country queries through ApiClient with bounded
+ * concurrency and streams every record to NDJSON or CSV as it arrives
+ */
 public class App {
+    private static final List<String> DEFAULT_CSV_FIELDS = Arrays.asList(
+            "cca3", "cca2", "name.common", "region", "subregion", "capital", "population", "area");
+    private static final int PROGRESS_EVERY = 1000;
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: java -jar rest-countries-test-suite.jar (--codes C1,C2 | --regions R1,R2 | --all) [options]",
+            "  --codes <list>        country codes, one request each (/alpha/{code})",
+            "  --regions <list>      regions, one request each (/region/{region})",
+            "  --all                 every country (/all, requires --fields)",
+            "  --fields <list>       fields to request; dotted paths select CSV columns (e.g. name.common)",
+            "  --format ndjson|csv   output format (default ndjson)",
+            "  --output <file>       write to a file instead of stdout",
+            "  --concurrency <n>     requests in flight at once (default 4)");
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final JsonFactory jsonFactory = mapper.getFactory();
+    private final ApiClient apiClient = new ApiClient();
+    private final AtomicLong records = new AtomicLong();
+    private final AtomicInteger completedQueries = new AtomicInteger();
+    private final AtomicInteger failedQueries = new AtomicInteger();
+
+    private final List<String> queries = new ArrayList<>();
+    private List<String> fields = Collections.emptyList();
+    private boolean csv;
+    private String output;
+    private int concurrency = 4;
+    private Writer writer;
+    private long startNanos;
+
     public static void main(String[] args) throws Exception {
-        System.out.println("Hello, World!");
+        App app = new App();
+        try {
+            app.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        System.exit(app.run() ? 0 : 1);
+    }
+
+    private void parse(String[] args) {
+        boolean all = false;
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            switch (option) {
+                case "--codes":
+                    for (String code : list(args, ++i, option)) {
+                        queries.add("/alpha/" + code);
+                    }
+                    break;
+                case "--regions":
+                    for (String region : list(args, ++i, option)) {
+                        queries.add("/region/" + region);
+                    }
+                    break;
+                case "--all":
+                    all = true;
+                    queries.add("/all");
+                    break;
+                case "--fields":
+                    fields = list(args, ++i, option);
+                    break;
+                case "--format":
+                    String format = value(args, ++i, option);
+                    if (!format.equals("ndjson") && !format.equals("csv")) {
+                        throw new IllegalArgumentException("Unknown format: " + format);
+                    }
+                    csv = format.equals("csv");
+                    break;
+                case "--output":
+                    output = value(args, ++i, option);
+                    break;
+                case "--concurrency":
+                    concurrency = Integer.parseInt(value(args, ++i, option));
+                    if (concurrency < 1) {
+                        throw new IllegalArgumentException("--concurrency must be at least 1");
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + option);
+            }
+        }
+        if (queries.isEmpty()) {
+            throw new IllegalArgumentException("Nothing to export");
+        }
+        if (all && fields.isEmpty()) {
+            throw new IllegalArgumentException("--all requires --fields");
+        }
+        if (csv && fields.isEmpty()) {
+            fields = DEFAULT_CSV_FIELDS;
+        }
+    }
+
+    private boolean run() throws IOException, InterruptedException {
+        Map<String, String> queryParams = fields.isEmpty()
+                ? null : Collections.singletonMap("fields", String.join(",", topLevelFields()));
+        startNanos = System.nanoTime();
+
+        try (Writer out = output == null
+                ? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+                : Files.newBufferedWriter(Paths.get(output), StandardCharsets.UTF_8)) {
+            writer = out;
+            if (csv) {
+                write(csvLine(fields));
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, queries.size()));
+            for (String endpoint : queries) {
+                executor.submit(() -> export(endpoint, queryParams));
+            }
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        }
+
+        System.err.println(progress("done", completedQueries.get()));
+        return failedQueries.get() == 0;
+    }
+
+    /**
+     * Stream one query and write each record as soon as it is parsed, so that
+     * neither the response body nor the whole array is ever held in memory
+     */
+    private void export(String endpoint, Map<String, String> queryParams) {
+        try {
+            int status = apiClient.stream(endpoint, queryParams, this::writeRecords);
+            if (status != 200) {
+                failedQueries.incrementAndGet();
+                System.err.println("[export] " + endpoint + " returned " + status);
+            }
+        } catch (IOException | RuntimeException e) {
+            failedQueries.incrementAndGet();
+            System.err.println("[export] " + endpoint + " failed: " + e.getMessage());
+        } finally {
+            System.err.println(progress(endpoint, completedQueries.incrementAndGet()));
+        }
+    }
+
+    private void writeRecords(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_OBJECT) {
+                writeRecord(mapper.readTree(parser));
+            } else if (token == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    writeRecord(mapper.readTree(parser));
+                }
+            }
+        }
+    }
+
+    private void writeRecord(JsonNode country) throws IOException {
+        String line;
+        if (csv) {
+            List<String> values = new ArrayList<>(fields.size());
+            for (String field : fields) {
+                values.add(text(select(country, field)));
+            }
+            line = csvLine(values);
+        } else {
+            line = mapper.writeValueAsString(country);
+        }
+        write(line);
+        if (records.incrementAndGet() % PROGRESS_EVERY == 0) {
+            System.err.println(progress("progress", completedQueries.get()));
+        }
+    }
+
+    private void write(String line) throws IOException {
+        synchronized (writer) {
+            writer.write(line);
+            writer.write('\n');
+        }
+    }
+
+    private String progress(String label, int completed) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        return String.format("[export] %s: %d/%d queries, %d records, %d failed, %.1f records/s",
+                label, completed, queries.size(), records.get(), failedQueries.get(),
+                seconds == 0 ? 0 : records.get() / seconds);
+    }
+
+    /**
+     * Fields to request from the API: the first segment of each dotted path
+     */
+    private Set<String> topLevelFields() {
+        Set<String> topLevel = new LinkedHashSet<>();
+        for (String field : fields) {
+            int dot = field.indexOf('.');
+            topLevel.add(dot < 0 ? field : field.substring(0, dot));
+        }
+        return topLevel;
+    }
+
+    private static JsonNode select(JsonNode node, String path) {
+        for (String segment : path.split("\\.")) {
+            node = node.path(segment);
+        }
+        return node;
+    }
+
+    private String text(JsonNode node) throws IOException {
+        if (node.isMissingNode() || node.isNull()) {
+            return "";
+        }
+        if (node.isArray()) {
+            List<String> values = new ArrayList<>(node.size());
+            for (JsonNode element : node) {
+                values.add(element.isValueNode() ? element.asText() : mapper.writeValueAsString(element));
+            }
+            return String.join(";", values);
+        }
+        return node.isValueNode() ? node.asText() : mapper.writeValueAsString(node);
+    }
+
+    private static String csvLine(List<String> values) {
+        StringBuilder line = new StringBuilder();
+        for (String value : values) {
+            if (line.length() > 0) {
+                line.append(',');
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                line.append('"').append(value.replace("\"", "\"\"")).append('"');
+            } else {
+                line.append(value);
+            }
+        }
+        return line.toString();
+    }
+
+    private static List<String> list(String[] args, int index, String option) {
+        List<String> values = new ArrayList<>();
+        for (String value : value(args, index, option).split(",")) {
+            if (!value.trim().isEmpty()) {
+                values.add(value.trim());
+            }
+        }
+        return values;
+    }
+
+    private static String value(String[] args, int index, String option) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException(option + " requires a value");
+        }
+        return args[index];
     }
 }
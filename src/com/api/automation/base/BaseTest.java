@@ -1,17 +1,40 @@
 package com.api.automation.base;
 
 import com.api.automation.client.ApiClient;
+import com.api.automation.client.ConnectionPool;
+import com.api.automation.config.ConfigManager;
+import com.api.automation.perf.PerformanceGateExtension;
+import com.api.automation.scheduling.DurationOrderer;
+import com.api.automation.scheduling.ShardCondition;
+import com.api.automation.scheduling.TimingExtension;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * Base test class providing common setup and utilities for all tests
  */
+@ExtendWith({TimingExtension.class, ShardCondition.class, PerformanceGateExtension.class})
+@TestMethodOrder(DurationOrderer.class)
 public class BaseTest {
     protected static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
     protected ApiClient apiClient;
 
+    @BeforeAll
+    public static void warmUpConnections() {
+        ConnectionPool.shared().warmUp(ConfigManager.getBaseUrl(),
+                ConfigManager.getPoolWarmupEndpoint(), ConfigManager.getPoolWarmupConnections());
+    }
+
+    @AfterAll
+    public static void logConnectionPoolStats() {
+        logger.info("Connection pool: {}", ConnectionPool.shared().stats());
+    }
+
     @BeforeEach
     public void setUp() {
         apiClient = new ApiClient();
@@ -5,10 +5,25 @@ import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import com.api.automation.config.ConfigManager;
+import com.api.automation.contract.ContractViolation;
+import com.api.automation.contract.ContractViolationException;
+import com.api.automation.contract.CountryContract;
+import com.api.automation.logging.RequestLog;
+import com.api.automation.perf.LatencyRecorder;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * REST Client for making HTTP requests to the API
@@ -18,6 +33,10 @@ public class ApiClient {
     private static final Logger logger = LoggerFactory.getLogger(ApiClient.class);
     private final String baseUrl;
     private final long requestTimeout;
+    private final RequestLog requestLog = RequestLog.shared();
+    private final LatencyRecorder latencyRecorder = LatencyRecorder.shared();
+    private final ConnectionPool connectionPool = ConnectionPool.shared();
+    private final String contractMode = ConfigManager.getContractValidationMode();
 
     public ApiClient() {
         this.baseUrl = ConfigManager.getBaseUrl();
@@ -34,10 +53,63 @@ public class ApiClient {
      */
     private RequestSpecification getRequestSpec() {
         return RestAssured.given()
+                .config(connectionPool.restAssuredConfig())
                 .baseUri(baseUrl)
                 .contentType(ContentType.JSON)
-                .header("User-Agent", "RestCountriesTestSuite/1.0")
-                .log().ifValidationFails();
+                .header("User-Agent", "RestCountriesTestSuite/1.0");
+    }
+
+    /**
+     * Execute a request, timing it and handing the outcome to the request log
+     */
+    private Response execute(String method, String endpoint, Map<String, String> queryParams,
+                             Function<RequestSpecification, Response> call) {
+        RequestSpecification spec = getRequestSpec();
+        
+        if (queryParams != null && !queryParams.isEmpty()) {
+            spec.queryParams(queryParams);
+        }
+        
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = call.apply(spec);
+            long duration = System.nanoTime() - start;
+            requestLog.record(method, endpoint, queryParams, response, duration);
+            latencyRecorder.record(LatencyRecorder.key(method, endpoint, queryParams),
+                    duration, response.asByteArray().length);
+        } catch (RuntimeException e) {
+            requestLog.recordFailure(method, endpoint, queryParams, e, System.nanoTime() - start);
+            throw e;
+        }
+        // Outside the try: the request already succeeded and is logged, a broken contract is not a transport failure
+        if ("GET".equals(method)) {
+            validateContract(endpoint, queryParams, response);
+        }
+        return response;
+    }
+
+    /**
+     * Check a full country response against the Country contract. Projections
+     * requested with the fields parameter are partial by design and skipped.
+     */
+    private void validateContract(String endpoint, Map<String, String> queryParams, Response response) {
+        if ("off".equals(contractMode) || response.getStatusCode() != 200
+                || (queryParams != null && queryParams.containsKey("fields"))) {
+            return;
+        }
+        String contentType = response.getContentType();
+        if (contentType == null || !contentType.contains("json")) {
+            return;
+        }
+        List<ContractViolation> violations = CountryContract.validator().validate(response.asByteArray());
+        if (violations.isEmpty()) {
+            return;
+        }
+        if ("fail".equals(contractMode)) {
+            throw new ContractViolationException(endpoint, violations);
+        }
+        logger.warn("Response from {} breaks its contract: {}", endpoint, violations);
     }
 
     /**
@@ -51,51 +123,89 @@ public class ApiClient {
      * Execute a GET request with query parameters
      */
     public Response get(String endpoint, Map<String, String> queryParams) {
-        RequestSpecification spec = getRequestSpec();
-        
-        if (queryParams != null && !queryParams.isEmpty()) {
-            spec.queryParams(queryParams);
+        return execute("GET", endpoint, queryParams, spec -> spec.get(endpoint));
+    }
+
+    /**
+     * Execute a GET request and hand a 200 body to the handler as it arrives, without
+     * buffering it. Streamed responses skip contract validation and latency recording.
+     *
+     * @return the response status code
+     */
+    public int stream(String endpoint, Map<String, String> queryParams, BodyHandler handler) throws IOException {
+        HttpGet request;
+        try {
+            URIBuilder uri = new URIBuilder(baseUrl + endpoint);
+            if (queryParams != null) {
+                queryParams.forEach(uri::addParameter);
+            }
+            request = new HttpGet(uri.build());
+        } catch (URISyntaxException e) {
+            throw new IllegalArgumentException("Invalid endpoint: " + endpoint, e);
         }
-        
-        logger.info("GET request to: {}{}", baseUrl, endpoint);
-        return spec.get(endpoint);
+        request.setHeader("Accept", "application/json");
+        request.setHeader("User-Agent", "RestCountriesTestSuite/1.0");
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse response = connectionPool.httpClient().execute(request);
+            int status = response.getStatusLine().getStatusCode();
+            HttpEntity entity = response.getEntity();
+            if (status == 200 && entity != null) {
+                InputStream body = entity.getContent();
+                try {
+                    handler.handle(body);
+                    body.close();
+                } catch (IOException | RuntimeException e) {
+                    // Drop the connection instead of reading the rest of a body nobody wants
+                    request.abort();
+                    throw e;
+                }
+            } else {
+                EntityUtils.consume(entity);
+            }
+            requestLog.record("GET", endpoint, queryParams, status,
+                    response.getStatusLine().toString(), System.nanoTime() - start);
+            return status;
+        } catch (IOException | RuntimeException e) {
+            requestLog.recordFailure("GET", endpoint, queryParams, e, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    /**
+     * Consumer of a streamed response body
+     */
+    @FunctionalInterface
+    public interface BodyHandler {
+        void handle(InputStream body) throws IOException;
     }
 
     /**
      * Execute a POST request
      */
     public Response post(String endpoint, Object body) {
-        logger.info("POST request to: {}{}", baseUrl, endpoint);
-        return getRequestSpec()
-                .body(body)
-                .post(endpoint);
+        return execute("POST", endpoint, null, spec -> spec.body(body).post(endpoint));
     }
 
     /**
      * Execute a PUT request
      */
     public Response put(String endpoint, Object body) {
-        logger.info("PUT request to: {}{}", baseUrl, endpoint);
-        return getRequestSpec()
-                .body(body)
-                .put(endpoint);
+        return execute("PUT", endpoint, null, spec -> spec.body(body).put(endpoint));
     }
 
     /**
      * Execute a DELETE request
      */
     public Response delete(String endpoint) {
-        logger.info("DELETE request to: {}{}", baseUrl, endpoint);
-        return getRequestSpec()
-                .delete(endpoint);
+        return execute("DELETE", endpoint, null, spec -> spec.delete(endpoint));
     }
 
     /**
      * Execute a HEAD request
      */
     public Response head(String endpoint) {
-        logger.info("HEAD request to: {}{}", baseUrl, endpoint);
-        return getRequestSpec()
-                .head(endpoint);
+        return execute("HEAD", endpoint, null, spec -> spec.head(endpoint));
     }
 }
@@ -0,0 +1,70 @@
+package com.api.automation.client;
+
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * DNS resolver that caches successful lookups for a fixed time to live
+ */
+public class CachingDnsResolver implements DnsResolver {
+    private final DnsResolver delegate;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public CachingDnsResolver(long ttlMillis) {
+        this(SystemDefaultDnsResolver.INSTANCE, ttlMillis);
+    }
+
+    CachingDnsResolver(DnsResolver delegate, long ttlMillis) {
+        this(delegate, ttlMillis, System::nanoTime);
+    }
+
+    CachingDnsResolver(DnsResolver delegate, long ttlMillis, LongSupplier nanoClock) {
+        this.delegate = delegate;
+        this.ttlNanos = ttlMillis * 1_000_000;
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        Entry entry = cache.get(host);
+        if (entry != null && nanoClock.getAsLong() - entry.resolvedAt < ttlNanos) {
+            hits.incrementAndGet();
+            return entry.addresses.clone();
+        }
+        misses.incrementAndGet();
+        InetAddress[] addresses = delegate.resolve(host);
+        if (ttlNanos > 0) {
+            cache.put(host, new Entry(addresses.clone(), nanoClock.getAsLong()));
+        }
+        return addresses;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private static class Entry {
+        private final InetAddress[] addresses;
+        private final long resolvedAt;
+
+        Entry(InetAddress[] addresses, long resolvedAt) {
+            this.addresses = addresses;
+            this.resolvedAt = resolvedAt;
+        }
+    }
+}
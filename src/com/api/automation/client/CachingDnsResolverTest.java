@@ -0,0 +1,100 @@
+package com.api.automation.client;
+
+import org.apache.http.conn.DnsResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for the DNS cache, resolving through a stub delegate on a manual clock
+ */
+@DisplayName("Caching DNS Resolver Tests")
+public class CachingDnsResolverTest {
+    private static final long MILLIS = 1_000_000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final DnsResolver stub = host -> {
+        lookups.incrementAndGet();
+        if (host.endsWith(".invalid")) {
+            throw new UnknownHostException(host);
+        }
+        return new InetAddress[]{InetAddress.getByAddress(host, new byte[]{10, 0, 0, (byte) lookups.get()})};
+    };
+
+    @Test
+    @DisplayName("Lookups within the TTL are served from the cache")
+    public void testHitsWithinTtl() throws UnknownHostException {
+        CachingDnsResolver resolver = new CachingDnsResolver(stub, 1_000, clock::get);
+
+        InetAddress first = resolver.resolve("restcountries.com")[0];
+        clock.addAndGet(999 * MILLIS);
+        InetAddress second = resolver.resolve("restcountries.com")[0];
+
+        assertEquals(first, second);
+        assertEquals(1, lookups.get());
+        assertEquals(1L, resolver.getHits());
+        assertEquals(1L, resolver.getMisses());
+    }
+
+    @Test
+    @DisplayName("An entry older than the TTL is resolved again")
+    public void testExpiryAfterTtl() throws UnknownHostException {
+        CachingDnsResolver resolver = new CachingDnsResolver(stub, 1_000, clock::get);
+
+        InetAddress first = resolver.resolve("restcountries.com")[0];
+        clock.addAndGet(1_000 * MILLIS);
+        InetAddress second = resolver.resolve("restcountries.com")[0];
+        InetAddress third = resolver.resolve("restcountries.com")[0];
+
+        assertFalse(first.equals(second), "Expired entry should have been looked up again");
+        assertEquals(second, third);
+        assertEquals(2, lookups.get());
+        assertEquals(1L, resolver.getHits());
+        assertEquals(2L, resolver.getMisses());
+    }
+
+    @Test
+    @DisplayName("Hosts are cached independently and failures are never cached")
+    public void testPerHostEntriesAndUncachedFailures() throws UnknownHostException {
+        CachingDnsResolver resolver = new CachingDnsResolver(stub, 1_000, clock::get);
+
+        resolver.resolve("a.example");
+        resolver.resolve("b.example");
+        resolver.resolve("a.example");
+        for (int i = 0; i < 2; i++) {
+            try {
+                resolver.resolve("missing.invalid");
+                fail("Unknown host should not resolve");
+            } catch (UnknownHostException expected) {
+                // Looked up again on every call
+            }
+        }
+
+        assertEquals(4, lookups.get());
+        assertEquals(1L, resolver.getHits());
+        assertEquals(4L, resolver.getMisses());
+    }
+
+    @Test
+    @DisplayName("A zero TTL disables caching and callers cannot alter cached entries")
+    public void testZeroTtlAndDefensiveCopies() throws UnknownHostException {
+        CachingDnsResolver uncached = new CachingDnsResolver(stub, 0, clock::get);
+        uncached.resolve("restcountries.com");
+        uncached.resolve("restcountries.com");
+        assertEquals(0L, uncached.getHits());
+        assertEquals(2L, uncached.getMisses());
+
+        CachingDnsResolver cached = new CachingDnsResolver(stub, 1_000, clock::get);
+        InetAddress[] addresses = cached.resolve("restcountries.com");
+        InetAddress original = addresses[0];
+        addresses[0] = null;
+        assertEquals(original, cached.resolve("restcountries.com")[0]);
+    }
+}
@@ -0,0 +1,269 @@
+package com.api.automation.client;
+
+import com.api.automation.config.ConfigManager;
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared HTTP connection pool used by every ApiClient. Connections are kept
+ * alive between tests, idle ones are evicted in the background and DNS lookups
+ * are cached. Lease wait times are tracked so the pool can be sized to the
+ * concurrency a run uses.
+ */
+@SuppressWarnings("deprecation") // RestAssured 5 still requires an AbstractHttpClient
+public class ConnectionPool {
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPool.class);
+    private static ConnectionPool shared;
+
+    private final CachingDnsResolver dnsResolver;
+    private final InstrumentedConnectionManager connectionManager;
+    private final DefaultHttpClient httpClient;
+    private final RestAssuredConfig restAssuredConfig;
+    private final ScheduledExecutorService evictor;
+    private final AtomicBoolean warmedUp = new AtomicBoolean();
+    private final AtomicLong leases = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    ConnectionPool(int maxPerRoute, int maxTotal, long keepAliveMillis, long idleEvictMillis,
+                   long dnsTtlMillis, long leaseTimeoutMillis) {
+        this.dnsResolver = new CachingDnsResolver(dnsTtlMillis);
+        this.connectionManager = new InstrumentedConnectionManager(dnsResolver);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setMaxTotal(Math.max(maxTotal, maxPerRoute));
+
+        this.httpClient = new DefaultHttpClient(connectionManager);
+        httpClient.getParams().setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT, leaseTimeoutMillis);
+        httpClient.getParams().setIntParameter(CoreConnectionPNames.CONNECTION_TIMEOUT, (int) leaseTimeoutMillis);
+        httpClient.setKeepAliveStrategy((response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+        });
+
+        this.restAssuredConfig = RestAssuredConfig.config().httpClient(HttpClientConfig.httpClientConfig()
+                .reuseHttpClientInstance()
+                .httpClientFactory(() -> httpClient));
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictInterval = Math.max(1000, idleEvictMillis / 2);
+        evictor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleEvictMillis, TimeUnit.MILLISECONDS);
+        }, evictInterval, evictInterval, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Pool configured from config.properties, shared by every client in the JVM
+     */
+    public static synchronized ConnectionPool shared() {
+        if (shared == null) {
+            shared = new ConnectionPool(ConfigManager.getPoolMaxPerRoute(),
+                    ConfigManager.getPoolMaxTotal(),
+                    ConfigManager.getPoolKeepAliveMs(),
+                    ConfigManager.getPoolIdleEvictMs(),
+                    ConfigManager.getDnsTtlMs(),
+                    ConfigManager.getRequestTimeout());
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::shutdown, "connection-pool-shutdown"));
+        }
+        return shared;
+    }
+
+    /**
+     * RestAssured configuration that sends requests through this pool
+     */
+    public RestAssuredConfig restAssuredConfig() {
+        return restAssuredConfig;
+    }
+
+    /**
+     * Pooled client for requests that need the raw response stream rather than a buffered RestAssured response
+     */
+    public HttpClient httpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Open up to the given number of connections to the API before the first
+     * test, paying DNS, TCP and TLS setup up front. Only the first call warms up.
+     */
+    public void warmUp(String baseUrl, String endpoint, int connections) {
+        if (connections <= 0 || !warmedUp.compareAndSet(false, true)) {
+            return;
+        }
+        long start = System.nanoTime();
+        CountDownLatch ready = new CountDownLatch(1);
+        Thread[] threads = new Thread[connections];
+        for (int i = 0; i < connections; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    ready.await();
+                    RestAssured.given().config(restAssuredConfig).baseUri(baseUrl).head(endpoint);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (RuntimeException e) {
+                    logger.warn("Connection warm-up request failed: {}", e.getMessage());
+                }
+            }, "connection-warmup-" + i);
+            threads[i].start();
+        }
+        // Release every request at once so that each one needs its own connection
+        ready.countDown();
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        logger.info("Warmed up {} connections in {}ms: {}", connections,
+                (System.nanoTime() - start) / 1_000_000, stats());
+    }
+
+    public Stats stats() {
+        long count = leases.get();
+        return new Stats(connectionManager.getTotalStats(), count,
+                count == 0 ? 0 : totalWaitNanos.get() / count, maxWaitNanos.get(),
+                dnsResolver.getHits(), dnsResolver.getMisses());
+    }
+
+    public void shutdown() {
+        evictor.shutdownNow();
+        connectionManager.shutdown();
+    }
+
+    private void recordWait(long nanos) {
+        leases.incrementAndGet();
+        totalWaitNanos.addAndGet(nanos);
+        maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Connection manager that measures how long callers wait to lease a connection
+     */
+    private class InstrumentedConnectionManager extends PoolingClientConnectionManager {
+
+        InstrumentedConnectionManager(CachingDnsResolver dnsResolver) {
+            super(SchemeRegistryFactory.createDefault(), dnsResolver);
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ClientConnectionRequest request = super.requestConnection(route, state);
+            return new ClientConnectionRequest() {
+                @Override
+                public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        return request.getConnection(timeout, unit);
+                    } finally {
+                        recordWait(System.nanoTime() - start);
+                    }
+                }
+
+                @Override
+                public void abortRequest() {
+                    request.abortRequest();
+                }
+            };
+        }
+    }
+
+    /**
+     * Point in time view of pool usage
+     */
+    public static class Stats {
+        private final int leased;
+        private final int pending;
+        private final int available;
+        private final int max;
+        private final long leaseCount;
+        private final long averageWaitNanos;
+        private final long maxWaitNanos;
+        private final long dnsHits;
+        private final long dnsMisses;
+
+        Stats(PoolStats pool, long leaseCount, long averageWaitNanos, long maxWaitNanos, long dnsHits, long dnsMisses) {
+            this.leased = pool.getLeased();
+            this.pending = pool.getPending();
+            this.available = pool.getAvailable();
+            this.max = pool.getMax();
+            this.leaseCount = leaseCount;
+            this.averageWaitNanos = averageWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+            this.dnsHits = dnsHits;
+            this.dnsMisses = dnsMisses;
+        }
+
+        public int getLeased() {
+            return leased;
+        }
+
+        public int getPending() {
+            return pending;
+        }
+
+        public int getAvailable() {
+            return available;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        public long getLeaseCount() {
+            return leaseCount;
+        }
+
+        public double getAverageWaitMillis() {
+            return averageWaitNanos / 1_000_000.0;
+        }
+
+        public double getMaxWaitMillis() {
+            return maxWaitNanos / 1_000_000.0;
+        }
+
+        public long getDnsHits() {
+            return dnsHits;
+        }
+
+        public long getDnsMisses() {
+            return dnsMisses;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("leased=%d pending=%d available=%d max=%d leases=%d "
+                            + "avgWait=%.2fms maxWait=%.2fms dnsHits=%d dnsMisses=%d",
+                    leased, pending, available, max, leaseCount,
+                    getAverageWaitMillis(), getMaxWaitMillis(), dnsHits, dnsMisses);
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.api.automation.config;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -41,6 +43,160 @@ public class ConfigManager {
         return Boolean.parseBoolean(properties.getProperty("logging.enabled", "true"));
     }
 
+    public static int getPoolMaxPerRoute() {
+        return Integer.parseInt(properties.getProperty("http.pool.max.per.route", "20"));
+    }
+
+    public static int getPoolMaxTotal() {
+        return Integer.parseInt(properties.getProperty("http.pool.max.total", "50"));
+    }
+
+    public static long getPoolKeepAliveMs() {
+        return Long.parseLong(properties.getProperty("http.pool.keepalive.ms", "30000"));
+    }
+
+    public static long getPoolIdleEvictMs() {
+        return Long.parseLong(properties.getProperty("http.pool.idle.evict.ms", "60000"));
+    }
+
+    public static int getPoolWarmupConnections() {
+        return Integer.parseInt(properties.getProperty("http.pool.warmup.connections", "0"));
+    }
+
+    public static String getPoolWarmupEndpoint() {
+        return properties.getProperty("http.pool.warmup.endpoint", "/alpha/us");
+    }
+
+    public static long getDnsTtlMs() {
+        return Long.parseLong(properties.getProperty("http.dns.ttl.ms", "300000"));
+    }
+
+    public static int getRequestLogBufferSize() {
+        return Integer.parseInt(properties.getProperty("request.log.buffer.size", "1024"));
+    }
+
+    public static int getRequestLogSampleEvery() {
+        return Integer.parseInt(properties.getProperty("request.log.sample.every", "10"));
+    }
+
+    public static long getRequestLogSlowThresholdMs() {
+        return Long.parseLong(properties.getProperty("request.log.slow.threshold.ms", "2000"));
+    }
+
+    /**
+     * How ApiClient treats responses that break their contract: off, warn or fail
+     */
+    public static String getContractValidationMode() {
+        return properties.getProperty("contract.validation.mode", "warn");
+    }
+
+    /**
+     * How a latency regression against the baseline is treated: off, warn or fail
+     */
+    public static String getPerfGateMode() {
+        return properties.getProperty("perf.gate.mode", "warn");
+    }
+
+    public static double getPerfGateAlpha() {
+        return Double.parseDouble(properties.getProperty("perf.gate.alpha", "0.01"));
+    }
+
+    public static double getPerfGateP50Tolerance() {
+        return Double.parseDouble(properties.getProperty("perf.gate.p50.tolerance", "0.20"));
+    }
+
+    public static double getPerfGateP99Tolerance() {
+        return Double.parseDouble(properties.getProperty("perf.gate.p99.tolerance", "0.50"));
+    }
+
+    public static int getPerfGateMinSamples() {
+        return Integer.parseInt(properties.getProperty("perf.gate.min.samples", "5"));
+    }
+
+    public static int getPerfProbeSamples() {
+        return Integer.parseInt(properties.getProperty("perf.probe.samples", "20"));
+    }
+
+    /**
+     * Endpoints the latency probe measures, with optional query strings, separated by semicolons
+     */
+    public static List<String> getPerfProbeEndpoints() {
+        List<String> endpoints = new ArrayList<>();
+        for (String endpoint : properties.getProperty("perf.probe.endpoints",
+                "/all?fields=cca3;/alpha/us;/region/europe").split(";")) {
+            if (!endpoint.trim().isEmpty()) {
+                endpoints.add(endpoint.trim());
+            }
+        }
+        return endpoints;
+    }
+
+    /**
+     * Whether to overwrite the baseline even when the run regressed
+     */
+    public static boolean isPerfBaselineUpdate() {
+        return Boolean.parseBoolean(System.getProperty("perf.baseline.update",
+                properties.getProperty("perf.baseline.update", "false")));
+    }
+
+    public static String getHistoryDir() {
+        return properties.getProperty("history.dir", ".test-history");
+    }
+
+    public static String getReportDir() {
+        return properties.getProperty("report.dir", "target/reports");
+    }
+
+    /**
+     * Number of workers the suite is split across; system properties take
+     * precedence so that each CI job can pass its own shard
+     */
+    public static int getShardCount() {
+        return Integer.parseInt(System.getProperty("test.shard.count",
+                properties.getProperty("test.shard.count", "1")));
+    }
+
+    public static int getShardIndex() {
+        return Integer.parseInt(System.getProperty("test.shard.index",
+                properties.getProperty("test.shard.index", "0")));
+    }
+
+    public static boolean isFuzzEnabled() {
+        return Boolean.parseBoolean(System.getProperty("fuzz.enabled",
+                properties.getProperty("fuzz.enabled", "false")));
+    }
+
+    /**
+     * Whether to re-fetch the fuzz oracle's dataset snapshot instead of reusing it
+     */
+    public static boolean isFuzzDatasetRefresh() {
+        return Boolean.parseBoolean(System.getProperty("fuzz.dataset.refresh",
+                properties.getProperty("fuzz.dataset.refresh", "false")));
+    }
+
+    /**
+     * Age after which the fuzz oracle's dataset snapshot is fetched again, so it follows upstream changes
+     */
+    public static long getFuzzDatasetMaxAgeHours() {
+        return Long.parseLong(properties.getProperty("fuzz.dataset.max.age.hours", "24"));
+    }
+
+    public static int getFuzzConcurrency() {
+        return Integer.parseInt(properties.getProperty("fuzz.concurrency", "8"));
+    }
+
+    public static int getFuzzMaxCases() {
+        return Integer.parseInt(properties.getProperty("fuzz.max.cases", "5000"));
+    }
+
+    public static long getFuzzSeed() {
+        return Long.parseLong(properties.getProperty("fuzz.seed", "42"));
+    }
+
+    public static int getFuzzShrinkLimit() {
+        return Integer.parseInt(properties.getProperty("fuzz.shrink.limit", "10"));
+    }
+
     public static String getProperty(String key) {
         return properties.getProperty(key);
     }
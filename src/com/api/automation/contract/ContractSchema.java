@@ -0,0 +1,136 @@
+package com.api.automation.contract;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Compiled node of a contract: the accepted types of a value and, for
+ * containers, the schemas of their members
+ */
+final class ContractSchema {
+    static final int STRING = 1;
+    static final int NUMBER = 1 << 1;
+    static final int INTEGER = 1 << 2;
+    static final int BOOLEAN = 1 << 3;
+    static final int OBJECT = 1 << 4;
+    static final int ARRAY = 1 << 5;
+    static final int NULL = 1 << 6;
+    static final int ANY = STRING | NUMBER | INTEGER | BOOLEAN | OBJECT | ARRAY | NULL;
+
+    private static final String[] TYPE_NAMES = {"string", "number", "integer", "boolean", "object", "array", "null"};
+
+    final int types;
+    final Map<String, ContractSchema> properties = new HashMap<>();
+    final Map<String, Integer> requiredIndex = new HashMap<>();
+    final String[] required;
+    final ContractSchema additionalProperties;
+    final ContractSchema items;
+    final int minItems;
+    final int maxItems;
+
+    private ContractSchema(JsonNode definition, String location) {
+        this.types = parseTypes(definition.get("type"), location);
+
+        JsonNode props = definition.path("properties");
+        Iterator<Map.Entry<String, JsonNode>> fields = props.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            properties.put(field.getKey(), new ContractSchema(field.getValue(), location + "." + field.getKey()));
+        }
+
+        JsonNode requiredNode = definition.path("required");
+        this.required = new String[requiredNode.size()];
+        for (int i = 0; i < required.length; i++) {
+            required[i] = requiredNode.get(i).asText();
+            requiredIndex.put(required[i], i);
+        }
+
+        JsonNode additional = definition.get("additionalProperties");
+        this.additionalProperties = additional == null || !additional.isObject()
+                ? null : new ContractSchema(additional, location + ".*");
+        JsonNode itemsNode = definition.get("items");
+        this.items = itemsNode == null ? null : new ContractSchema(itemsNode, location + "[]");
+        this.minItems = definition.path("minItems").asInt(-1);
+        this.maxItems = definition.path("maxItems").asInt(-1);
+    }
+
+    static ContractSchema compile(JsonNode definition) {
+        return new ContractSchema(definition, "$");
+    }
+
+    /**
+     * Schema for a member of this object, or null when it is unconstrained
+     */
+    ContractSchema property(String name) {
+        ContractSchema schema = properties.get(name);
+        return schema != null ? schema : additionalProperties;
+    }
+
+    boolean accepts(JsonToken token) {
+        return (types & typeOf(token)) != 0;
+    }
+
+    static int typeOf(JsonToken token) {
+        switch (token) {
+            case START_OBJECT:
+                return OBJECT;
+            case START_ARRAY:
+                return ARRAY;
+            case VALUE_STRING:
+                return STRING;
+            // An integer is also a valid number
+            case VALUE_NUMBER_INT:
+                return INTEGER | NUMBER;
+            case VALUE_NUMBER_FLOAT:
+                return NUMBER;
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return BOOLEAN;
+            case VALUE_NULL:
+                return NULL;
+            default:
+                return 0;
+        }
+    }
+
+    static String describe(int types) {
+        StringBuilder description = new StringBuilder();
+        for (int i = 0; i < TYPE_NAMES.length; i++) {
+            // Integer tokens also carry NUMBER; name them once
+            if ((types & (1 << i)) != 0 && !((1 << i) == NUMBER && (types & INTEGER) != 0 && types != ANY)) {
+                if (description.length() > 0) {
+                    description.append('|');
+                }
+                description.append(TYPE_NAMES[i]);
+            }
+        }
+        return description.toString();
+    }
+
+    private static int parseTypes(JsonNode type, String location) {
+        if (type == null) {
+            return ANY;
+        }
+        if (type.isArray()) {
+            int types = 0;
+            for (JsonNode element : type) {
+                types |= parseType(element.asText(), location);
+            }
+            return types;
+        }
+        return parseType(type.asText(), location);
+    }
+
+    private static int parseType(String name, String location) {
+        for (int i = 0; i < TYPE_NAMES.length; i++) {
+            if (TYPE_NAMES[i].equals(name)) {
+                return 1 << i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown type '" + name + "' in contract at " + location);
+    }
+}
@@ -0,0 +1,193 @@
+package com.api.automation.contract;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Validates JSON documents against a contract compiled once up front. Each
+ * document is checked in a single pass over its token stream without building
+ * a tree; paths are only rendered for values that break the contract.
+ */
+public class ContractValidator {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int MAX_VIOLATIONS = 100;
+
+    private final ContractSchema root;
+
+    private ContractValidator(ContractSchema root) {
+        this.root = root;
+    }
+
+    /**
+     * Compile a contract written in a subset of JSON Schema: type, properties,
+     * required, additionalProperties, items, minItems and maxItems
+     */
+    public static ContractValidator compile(JsonNode contract) {
+        return new ContractValidator(ContractSchema.compile(contract));
+    }
+
+    /**
+     * Compile a contract from a classpath resource
+     */
+    public static ContractValidator compileResource(String resource) {
+        try (InputStream input = ContractValidator.class.getResourceAsStream(resource)) {
+            if (input == null) {
+                throw new IllegalArgumentException("Contract not found on classpath: " + resource);
+            }
+            return compile(new ObjectMapper().readTree(input));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to read contract " + resource, e);
+        }
+    }
+
+    public List<ContractViolation> validate(byte[] document) {
+        try (JsonParser parser = JSON_FACTORY.createParser(document)) {
+            return validate(parser);
+        } catch (IOException e) {
+            return malformed(e);
+        }
+    }
+
+    public List<ContractViolation> validate(InputStream document) {
+        try (JsonParser parser = JSON_FACTORY.createParser(document)) {
+            return validate(parser);
+        } catch (IOException e) {
+            return malformed(e);
+        }
+    }
+
+    private List<ContractViolation> validate(JsonParser parser) throws IOException {
+        Pass pass = new Pass(parser);
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            pass.violation("document is empty");
+        } else {
+            pass.value(token, root);
+        }
+        return pass.violations;
+    }
+
+    private static List<ContractViolation> malformed(IOException e) {
+        List<ContractViolation> violations = new ArrayList<>(1);
+        violations.add(new ContractViolation("$", "malformed JSON: " + e.getMessage()));
+        return violations;
+    }
+
+    /**
+     * State of one validation pass: the parser, the current path and what was found
+     */
+    private static final class Pass {
+        private final JsonParser parser;
+        private final List<ContractViolation> violations = new ArrayList<>();
+        // Current path as parallel stacks; a null name means an array index
+        private String[] names = new String[16];
+        private int[] indexes = new int[16];
+        private int depth;
+
+        Pass(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        void value(JsonToken token, ContractSchema schema) throws IOException {
+            if (schema == null) {
+                parser.skipChildren();
+                return;
+            }
+            if (!schema.accepts(token)) {
+                violation("expected " + ContractSchema.describe(schema.types)
+                        + " but was " + ContractSchema.describe(ContractSchema.typeOf(token)));
+                parser.skipChildren();
+                return;
+            }
+            if (token == JsonToken.START_OBJECT) {
+                object(schema);
+            } else if (token == JsonToken.START_ARRAY) {
+                array(schema);
+            }
+        }
+
+        private void object(ContractSchema schema) throws IOException {
+            boolean[] seen = schema.required.length == 0 ? null : new boolean[schema.required.length];
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                if (seen != null) {
+                    Integer index = schema.requiredIndex.get(name);
+                    if (index != null) {
+                        seen[index] = true;
+                    }
+                }
+                push(name, -1);
+                value(parser.nextToken(), schema.property(name));
+                depth--;
+            }
+            if (token != JsonToken.END_OBJECT) {
+                throw new IOException("Unexpected token " + token + " in object");
+            }
+            if (seen != null) {
+                for (int i = 0; i < seen.length; i++) {
+                    if (!seen[i]) {
+                        push(schema.required[i], -1);
+                        violation("required field is missing");
+                        depth--;
+                    }
+                }
+            }
+        }
+
+        private void array(ContractSchema schema) throws IOException {
+            int count = 0;
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IOException("Unexpected end of input in array");
+                }
+                push(null, count++);
+                value(token, schema.items);
+                depth--;
+            }
+            if (schema.minItems >= 0 && count < schema.minItems) {
+                violation("expected at least " + schema.minItems + " items but found " + count);
+            } else if (schema.maxItems >= 0 && count > schema.maxItems) {
+                violation("expected at most " + schema.maxItems + " items but found " + count);
+            }
+        }
+
+        private void push(String name, int index) {
+            if (depth == names.length) {
+                names = Arrays.copyOf(names, depth * 2);
+                indexes = Arrays.copyOf(indexes, depth * 2);
+            }
+            names[depth] = name;
+            indexes[depth] = index;
+            depth++;
+        }
+
+        void violation(String message) {
+            if (violations.size() < MAX_VIOLATIONS) {
+                violations.add(new ContractViolation(path(), message));
+            }
+        }
+
+        private String path() {
+            StringBuilder path = new StringBuilder("$");
+            for (int i = 0; i < depth; i++) {
+                if (names[i] == null) {
+                    path.append('[').append(indexes[i]).append(']');
+                } else {
+                    path.append('.').append(names[i]);
+                }
+            }
+            return path.toString();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.api.automation.contract;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for the streaming contract validator, run against the Country
+ * contract with hand-written documents
+ */
+@DisplayName("Contract Validator Tests")
+public class ContractValidatorTest {
+    private static final String VALID_COUNTRY = "{"
+            + "\"name\":{\"common\":\"Norway\",\"official\":\"Kingdom of Norway\"},"
+            + "\"cca2\":\"NO\",\"cca3\":\"NOR\",\"region\":\"Europe\","
+            + "\"latlng\":[62.0,10.0],\"timezones\":[\"UTC+01:00\"],"
+            + "\"currencies\":{\"NOK\":{\"name\":\"Norwegian krone\",\"symbol\":\"kr\"}},"
+            + "\"population\":5379475,"
+            + "\"postalCode\":{\"format\":\"####\",\"regex\":null}"
+            + "}";
+
+    private final ContractValidator validator = CountryContract.validator();
+
+    private List<ContractViolation> validate(String document) {
+        return validator.validate(document.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String withField(String field) {
+        return VALID_COUNTRY.substring(0, VALID_COUNTRY.length() - 1) + "," + field + "}";
+    }
+
+    @Test
+    @DisplayName("A conforming document has no violations")
+    public void testValidDocument() {
+        assertEquals(0, validate("[" + VALID_COUNTRY + "," + VALID_COUNTRY + "]").size());
+    }
+
+    @Test
+    @DisplayName("A type mismatch is reported at its path")
+    public void testTypeMismatchPath() {
+        List<ContractViolation> violations = validate("[" + VALID_COUNTRY.replace("[62.0,10.0]", "[62.0,\"10\"]") + "]");
+
+        assertEquals(1, violations.size());
+        assertEquals("$[0].latlng[1]", violations.get(0).getPath());
+        assertEquals("expected number but was string", violations.get(0).getMessage());
+    }
+
+    @Test
+    @DisplayName("A missing required field is reported with its path")
+    public void testMissingRequiredField() {
+        List<ContractViolation> violations = validate("[" + VALID_COUNTRY + ","
+                + VALID_COUNTRY.replace("\"cca3\":\"NOR\",", "").replace("\"official\":\"Kingdom of Norway\"", "\"nativeName\":{}") + "]");
+
+        assertEquals(2, violations.size());
+        assertEquals("$[1].name.official: required field is missing", violations.get(0).toString());
+        assertEquals("$[1].cca3: required field is missing", violations.get(1).toString());
+    }
+
+    @Test
+    @DisplayName("latlng must hold exactly two items")
+    public void testLatlngItemBounds() {
+        List<ContractViolation> tooFew = validate("[" + VALID_COUNTRY.replace("[62.0,10.0]", "[62.0]") + "]");
+        List<ContractViolation> tooMany = validate("[" + VALID_COUNTRY.replace("[62.0,10.0]", "[62.0,10.0,1.0]") + "]");
+
+        assertEquals(1, tooFew.size());
+        assertEquals("$[0].latlng: expected at least 2 items but found 1", tooFew.get(0).toString());
+        assertEquals(1, tooMany.size());
+        assertEquals("$[0].latlng: expected at most 2 items but found 3", tooMany.get(0).toString());
+    }
+
+    @Test
+    @DisplayName("Every currency is checked against the additionalProperties schema")
+    public void testAdditionalPropertiesUnderCurrencies() {
+        List<ContractViolation> violations = validate("[" + VALID_COUNTRY.replace(
+                "{\"NOK\":{\"name\":\"Norwegian krone\",\"symbol\":\"kr\"}}",
+                "{\"NOK\":{\"name\":\"Norwegian krone\"},\"EUR\":{\"symbol\":\"\u20ac\"},\"SEK\":\"krona\"}") + "]");
+
+        assertEquals(2, violations.size());
+        assertEquals("$[0].currencies.EUR.name: required field is missing", violations.get(0).toString());
+        assertEquals("$[0].currencies.SEK: expected object but was string", violations.get(1).toString());
+    }
+
+    @Test
+    @DisplayName("A [string, null] union accepts both and rejects anything else")
+    public void testStringOrNullUnion() {
+        assertEquals(0, validate("[" + VALID_COUNTRY.replace("\"format\":\"####\"", "\"format\":null") + "]").size());
+
+        List<ContractViolation> violations = validate("[" + VALID_COUNTRY.replace("\"regex\":null", "\"regex\":4") + "]");
+        assertEquals(1, violations.size());
+        assertEquals("$[0].postalCode.regex: expected string|null but was integer", violations.get(0).toString());
+    }
+
+    @Test
+    @DisplayName("Integers are numbers, but numbers are not integers")
+    public void testIntegerAndNumber() {
+        assertEquals(0, validate("[" + VALID_COUNTRY.replace("[62.0,10.0]", "[62,10]") + "]").size());
+
+        List<ContractViolation> violations = validate("[" + VALID_COUNTRY.replace("5379475", "5379475.5") + "]");
+        assertEquals(1, violations.size());
+        assertEquals("$[0].population: expected integer but was number", violations.get(0).toString());
+    }
+
+    @Test
+    @DisplayName("Unknown fields are accepted")
+    public void testUnknownFieldsAreIgnored() {
+        assertEquals(0, validate("[" + withField("\"motto\":{\"text\":[1,2,3]}") + "]").size());
+    }
+
+    @Test
+    @DisplayName("Malformed and empty input are reported at the root")
+    public void testMalformedAndEmptyInput() {
+        List<ContractViolation> truncated = validate("[" + VALID_COUNTRY);
+        List<ContractViolation> garbage = validate("not json");
+        List<ContractViolation> empty = validate("");
+
+        assertEquals(1, truncated.size());
+        assertEquals("$", truncated.get(0).getPath());
+        assertTrue(truncated.get(0).getMessage().startsWith("malformed JSON"));
+        assertEquals(1, garbage.size());
+        assertTrue(garbage.get(0).getMessage().startsWith("malformed JSON"));
+        assertEquals(1, empty.size());
+        assertEquals("$: document is empty", empty.get(0).toString());
+    }
+
+    @Test
+    @DisplayName("A non-array document is rejected at the root")
+    public void testRootMustBeArray() {
+        List<ContractViolation> violations = validate(VALID_COUNTRY);
+
+        assertEquals(1, violations.size());
+        assertEquals("$: expected array but was object", violations.get(0).toString());
+    }
+
+    @Test
+    @DisplayName("At most 100 violations are kept per document")
+    public void testViolationCap() {
+        StringBuilder document = new StringBuilder("[");
+        for (int i = 0; i < 30; i++) {
+            // An empty object misses all six required fields
+            document.append(i == 0 ? "" : ",").append("{}");
+        }
+        List<ContractViolation> violations = validate(document.append(']').toString());
+
+        assertEquals(100, violations.size());
+        assertEquals("$[0].name: required field is missing", violations.get(0).toString());
+        assertEquals("$[16].region: required field is missing", violations.get(99).toString());
+    }
+}
@@ -0,0 +1,27 @@
+package com.api.automation.contract;
+
+/**
+ * A single deviation from a response contract, located by its JSON path
+ */
+public class ContractViolation {
+    private final String path;
+    private final String message;
+
+    public ContractViolation(String path, String message) {
+        this.path = path;
+        this.message = message;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return path + ": " + message;
+    }
+}
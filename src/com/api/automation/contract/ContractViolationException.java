@@ -0,0 +1,19 @@
+package com.api.automation.contract;
+
+import java.util.List;
+
+/**
+ * Thrown when a response breaks its contract and validation is set to fail
+ */
+public class ContractViolationException extends RuntimeException {
+    private final List<ContractViolation> violations;
+
+    public ContractViolationException(String endpoint, List<ContractViolation> violations) {
+        super("Response from " + endpoint + " breaks its contract: " + violations);
+        this.violations = violations;
+    }
+
+    public List<ContractViolation> getViolations() {
+        return violations;
+    }
+}
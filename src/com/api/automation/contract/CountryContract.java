@@ -0,0 +1,15 @@
+package com.api.automation.contract;
+
+/**
+ * Contract for Country responses, compiled once per run
+ */
+public final class CountryContract {
+    private static final String RESOURCE = "/contracts/country-contract.json";
+    private static final ContractValidator VALIDATOR = ContractValidator.compileResource(RESOURCE);
+
+    private CountryContract() {}
+
+    public static ContractValidator validator() {
+        return VALIDATOR;
+    }
+}
@@ -0,0 +1,58 @@
+package com.api.automation.fuzz;
+
+/**
+ * Concurrency limit that halves when the API throttles and grows back by one
+ * after a full window of successful requests
+ */
+class AdaptiveLimiter {
+    private final int maxLimit;
+    private int limit;
+    private int inFlight;
+    private int successes;
+    private long pausedUntilNanos;
+
+    AdaptiveLimiter(int maxLimit) {
+        this.maxLimit = Math.max(1, maxLimit);
+        this.limit = this.maxLimit;
+    }
+
+    synchronized void acquire() throws InterruptedException {
+        while (true) {
+            long pause = pausedUntilNanos - System.nanoTime();
+            if (pause > 0) {
+                wait(Math.max(1, pause / 1_000_000));
+            } else if (inFlight >= limit) {
+                wait();
+            } else {
+                inFlight++;
+                return;
+            }
+        }
+    }
+
+    synchronized void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+    synchronized void onSuccess() {
+        if (++successes >= limit && limit < maxLimit) {
+            limit++;
+            successes = 0;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Back off after a throttled response, pausing every worker for the given delay
+     */
+    synchronized void onThrottle(long delayMillis) {
+        limit = Math.max(1, limit / 2);
+        successes = 0;
+        pausedUntilNanos = Math.max(pausedUntilNanos, System.nanoTime() + delayMillis * 1_000_000);
+    }
+
+    synchronized int getLimit() {
+        return limit;
+    }
+}
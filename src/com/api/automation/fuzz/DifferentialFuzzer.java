@@ -0,0 +1,226 @@
+package com.api.automation.fuzz;
+
+import com.api.automation.client.ApiClient;
+import com.api.automation.config.ConfigManager;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs query cases concurrently against the live API and diffs each answer
+ * against the local oracle, shrinking failing name queries to minimal ones
+ */
+public class DifferentialFuzzer {
+    private static final Logger logger = LoggerFactory.getLogger(DifferentialFuzzer.class);
+    private static final int PROGRESS_INTERVAL = 500;
+    private static final int MAX_SHRINK_STEPS = 20;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ApiClient apiClient;
+    private final LocalOracle oracle;
+    private final int concurrency;
+    private final int shrinkLimit;
+    private final int maxRetries = ConfigManager.getMaxRetries();
+    private final AdaptiveLimiter limiter;
+    private final AtomicInteger throttled = new AtomicInteger();
+
+    public DifferentialFuzzer(ApiClient apiClient, LocalOracle oracle, int concurrency, int shrinkLimit) {
+        this.apiClient = apiClient;
+        this.oracle = oracle;
+        this.concurrency = Math.max(1, concurrency);
+        this.shrinkLimit = shrinkLimit;
+        this.limiter = new AdaptiveLimiter(this.concurrency);
+    }
+
+    public FuzzReport run(List<QueryCase> cases) throws InterruptedException {
+        long start = System.currentTimeMillis();
+        AtomicInteger completed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        List<Future<Outcome>> futures = new ArrayList<>(cases.size());
+        try {
+            for (QueryCase queryCase : cases) {
+                futures.add(executor.submit(() -> {
+                    Outcome outcome = execute(queryCase);
+                    int done = completed.incrementAndGet();
+                    if (done % PROGRESS_INTERVAL == 0) {
+                        double seconds = (System.currentTimeMillis() - start) / 1000.0;
+                        logger.info("Fuzzed {}/{} cases, {} cases/s, concurrency limit {}",
+                                done, cases.size(), String.format("%.1f", done / seconds), limiter.getLimit());
+                    }
+                    return outcome;
+                }));
+            }
+
+            List<FuzzReport.Failure> failures = new ArrayList<>();
+            for (Future<Outcome> future : futures) {
+                Outcome outcome = future.get();
+                if (outcome.failed()) {
+                    QueryCase minimal = failures.size() < shrinkLimit ? shrink(outcome.queryCase) : outcome.queryCase;
+                    failures.add(new FuzzReport.Failure(outcome.queryCase, minimal,
+                            outcome.statusCode, outcome.missing, outcome.unexpected, outcome.error));
+                }
+            }
+            return new FuzzReport(cases.size(), failures, throttled.get(), System.currentTimeMillis() - start);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Fuzz case crashed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Greedily trim characters off a failing name fragment while it keeps failing
+     */
+    private QueryCase shrink(QueryCase failing) throws InterruptedException {
+        if (failing.getKind() != QueryKind.NAME) {
+            return failing;
+        }
+        QueryCase current = failing;
+        for (int step = 0; step < MAX_SHRINK_STEPS && current.getTerm().length() > 1; step++) {
+            String term = current.getTerm();
+            QueryCase shorter = null;
+            for (String candidate : new String[]{term.substring(1), term.substring(0, term.length() - 1)}) {
+                if (candidate.isBlank()) {
+                    continue;
+                }
+                QueryCase candidateCase = oracle.query(QueryKind.NAME, candidate.trim());
+                if (execute(candidateCase).failed()) {
+                    shorter = candidateCase;
+                    break;
+                }
+            }
+            if (shorter == null) {
+                break;
+            }
+            current = shorter;
+        }
+        return current;
+    }
+
+    private Outcome execute(QueryCase queryCase) throws InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            Response response;
+            limiter.acquire();
+            try {
+                response = apiClient.get(queryCase.getEndpoint(), Collections.singletonMap("fields", "cca3"));
+            } catch (RuntimeException e) {
+                logger.warn("Request {} failed: {}", queryCase.getEndpoint(), e.getMessage());
+                return Outcome.error(queryCase, -1, "request failed: " + e.getMessage());
+            } finally {
+                limiter.release();
+            }
+
+            int status = response.getStatusCode();
+            if (status == 429 && attempt < maxRetries) {
+                throttled.incrementAndGet();
+                limiter.onThrottle(retryDelayMillis(response, attempt));
+                continue;
+            }
+            // Only clean answers may raise the limit; a final 429 or a 5xx must not
+            if (status == 200 || status == 404) {
+                limiter.onSuccess();
+            }
+            try {
+                return Outcome.of(queryCase, status, actual(response, status));
+            } catch (IOException | RuntimeException e) {
+                return Outcome.error(queryCase, status, "unparseable body: " + e.getMessage());
+            }
+        }
+    }
+
+    private static long retryDelayMillis(Response response, int attempt) {
+        String retryAfter = response.getHeader("Retry-After");
+        if (retryAfter != null) {
+            try {
+                return Long.parseLong(retryAfter.trim()) * 1000;
+            } catch (NumberFormatException e) {
+                // HTTP-date form, fall back to exponential backoff
+            }
+        }
+        return 500L << Math.min(attempt, 6);
+    }
+
+    /**
+     * cca3 codes in a response. Every search answers with an array, /alpha/{code} included; a
+     * bare object is accepted too so that a change of shape shows up as a diff, not a crash
+     */
+    private static Set<String> actual(Response response, int status) throws IOException {
+        Set<String> codes = new TreeSet<>();
+        if (status != 200) {
+            return codes;
+        }
+        JsonNode body = MAPPER.readTree(response.asByteArray());
+        if (body.isObject()) {
+            codes.add(cca3(body));
+        } else if (body.isArray()) {
+            for (JsonNode country : body) {
+                codes.add(cca3(country));
+            }
+        } else {
+            throw new IOException("expected an object or array but was " + body.getNodeType());
+        }
+        return codes;
+    }
+
+    private static String cca3(JsonNode country) throws IOException {
+        JsonNode cca3 = country.get("cca3");
+        if (cca3 == null || !cca3.isTextual()) {
+            throw new IOException("record without a cca3: " + country);
+        }
+        return cca3.asText();
+    }
+
+    /**
+     * Result of running one case
+     */
+    private static class Outcome {
+        private final QueryCase queryCase;
+        private final int statusCode;
+        private final Set<String> missing;
+        private final Set<String> unexpected;
+        private final String error;
+
+        private Outcome(QueryCase queryCase, int statusCode, Set<String> missing, Set<String> unexpected,
+                        String error) {
+            this.queryCase = queryCase;
+            this.statusCode = statusCode;
+            this.missing = missing;
+            this.unexpected = unexpected;
+            this.error = error;
+        }
+
+        static Outcome of(QueryCase queryCase, int statusCode, Set<String> actual) {
+            Set<String> missing = new TreeSet<>(queryCase.getExpected());
+            missing.removeAll(actual);
+            Set<String> unexpected = new TreeSet<>();
+            if (queryCase.getKind().isExact()) {
+                unexpected.addAll(actual);
+                unexpected.removeAll(queryCase.getExpected());
+            }
+            return new Outcome(queryCase, statusCode, missing, unexpected, null);
+        }
+
+        static Outcome error(QueryCase queryCase, int statusCode, String error) {
+            return new Outcome(queryCase, statusCode, queryCase.getExpected(), Collections.emptySet(), error);
+        }
+
+        boolean failed() {
+            return error != null || (statusCode != 200 && statusCode != 404)
+                    || !missing.isEmpty() || !unexpected.isEmpty();
+        }
+    }
+}
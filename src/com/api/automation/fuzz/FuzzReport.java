@@ -0,0 +1,109 @@
+package com.api.automation.fuzz;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Outcome of a differential fuzzing run
+ */
+public class FuzzReport {
+    private final int total;
+    private final List<Failure> failures;
+    private final int throttled;
+    private final long elapsedMillis;
+
+    FuzzReport(int total, List<Failure> failures, int throttled, long elapsedMillis) {
+        this.total = total;
+        this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+        this.throttled = throttled;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public List<Failure> getFailures() {
+        return failures;
+    }
+
+    public int getThrottled() {
+        return throttled;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public double getThroughput() {
+        return elapsedMillis == 0 ? 0 : total * 1000.0 / elapsedMillis;
+    }
+
+    public String toReport() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Differential fuzz: %d cases, %d failed, %d throttled, %.1fs, %.1f cases/s%n",
+                total, failures.size(), throttled, elapsedMillis / 1000.0, getThroughput()));
+        for (Failure failure : failures) {
+            report.append(failure).append(System.lineSeparator());
+        }
+        return report.toString();
+    }
+
+    /**
+     * A case whose live answer disagreed with the oracle
+     */
+    public static class Failure {
+        private final QueryCase queryCase;
+        private final QueryCase minimalCase;
+        private final int statusCode;
+        private final Set<String> missing;
+        private final Set<String> unexpected;
+        private final String error;
+
+        Failure(QueryCase queryCase, QueryCase minimalCase, int statusCode, Set<String> missing,
+                Set<String> unexpected, String error) {
+            this.queryCase = queryCase;
+            this.minimalCase = minimalCase;
+            this.statusCode = statusCode;
+            this.missing = missing;
+            this.unexpected = unexpected;
+            this.error = error;
+        }
+
+        public QueryCase getQueryCase() {
+            return queryCase;
+        }
+
+        public QueryCase getMinimalCase() {
+            return minimalCase;
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public Set<String> getMissing() {
+            return missing;
+        }
+
+        public Set<String> getUnexpected() {
+            return unexpected;
+        }
+
+        /**
+         * Why the case could not be compared, or null when the answer was compared and differed
+         */
+        public String getError() {
+            return error;
+        }
+
+        @Override
+        public String toString() {
+            String shrunk = minimalCase == queryCase ? "" : " (minimal: " + minimalCase.getEndpoint() + ")";
+            return "FAIL " + queryCase.getEndpoint() + shrunk + " status=" + statusCode
+                    + (error != null ? " error=" + error : " missing=" + missing + " unexpected=" + unexpected);
+        }
+    }
+}
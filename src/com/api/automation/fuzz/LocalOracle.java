@@ -0,0 +1,80 @@
+package com.api.automation.fuzz;
+
+import com.api.automation.snapshot.ColumnarSnapshot;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Computes the expected result set of a query from a local country snapshot
+ */
+public class LocalOracle {
+    private final ColumnarSnapshot dataset;
+
+    public LocalOracle(ColumnarSnapshot dataset) {
+        this.dataset = dataset;
+    }
+
+    public ColumnarSnapshot getDataset() {
+        return dataset;
+    }
+
+    public QueryCase query(QueryKind kind, String term) {
+        return new QueryCase(kind, term, expected(kind, term));
+    }
+
+    /**
+     * cca3 codes of every country the given query should match
+     */
+    public Set<String> expected(QueryKind kind, String term) {
+        String needle = term.toLowerCase(Locale.ROOT);
+        Set<String> matches = new TreeSet<>();
+        for (int row = 0; row < dataset.size(); row++) {
+            if (matches(kind, needle, row)) {
+                matches.add(dataset.cca3(row));
+            }
+        }
+        return matches;
+    }
+
+    private boolean matches(QueryKind kind, String needle, int row) {
+        switch (kind) {
+            case CODE:
+                return equalsIgnoreCase(dataset.cca2(row), needle) || equalsIgnoreCase(dataset.cca3(row), needle);
+            case REGION:
+                return equalsIgnoreCase(dataset.region(row), needle);
+            case SUBREGION:
+                return equalsIgnoreCase(dataset.subregion(row), needle);
+            case CURRENCY:
+                return containsIgnoreCase(dataset.currencyCodes(row), needle);
+            case LANGUAGE:
+                return containsIgnoreCase(dataset.languageCodes(row), needle)
+                        || containsIgnoreCase(dataset.languageNames(row), needle);
+            case CAPITAL:
+                return equalsIgnoreCase(dataset.capital(row), needle);
+            case NAME:
+                return contains(dataset.commonName(row), needle) || contains(dataset.officialName(row), needle);
+            default:
+                throw new IllegalArgumentException("Unsupported query kind: " + kind);
+        }
+    }
+
+    private static boolean equalsIgnoreCase(String value, String needle) {
+        return value != null && value.toLowerCase(Locale.ROOT).equals(needle);
+    }
+
+    private static boolean contains(String value, String needle) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(needle);
+    }
+
+    private static boolean containsIgnoreCase(List<String> values, String needle) {
+        for (String value : values) {
+            if (equalsIgnoreCase(value, needle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,40 @@
+package com.api.automation.fuzz;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * A single generated query together with the cca3 codes the oracle expects back
+ */
+public class QueryCase {
+    private final QueryKind kind;
+    private final String term;
+    private final Set<String> expected;
+
+    public QueryCase(QueryKind kind, String term, Set<String> expected) {
+        this.kind = kind;
+        this.term = term;
+        this.expected = Collections.unmodifiableSet(expected);
+    }
+
+    public QueryKind getKind() {
+        return kind;
+    }
+
+    public String getTerm() {
+        return term;
+    }
+
+    public String getEndpoint() {
+        return kind.getPathPrefix() + term;
+    }
+
+    public Set<String> getExpected() {
+        return expected;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCase{" + getEndpoint() + ", expected=" + expected.size() + '}';
+    }
+}
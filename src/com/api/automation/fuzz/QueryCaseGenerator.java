@@ -0,0 +1,96 @@
+package com.api.automation.fuzz;
+
+import com.api.automation.snapshot.ColumnarSnapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Derives query cases from every code, region, subregion, currency, language,
+ * capital and name fragment in a dataset
+ */
+public class QueryCaseGenerator {
+    private final LocalOracle oracle;
+
+    public QueryCaseGenerator(LocalOracle oracle) {
+        this.oracle = oracle;
+    }
+
+    /**
+     * Generate all cases, sampled down to at most maxCases with a fixed seed
+     */
+    public List<QueryCase> generate(int maxCases, long seed) {
+        Map<String, QueryCase> cases = new LinkedHashMap<>();
+        ColumnarSnapshot dataset = oracle.getDataset();
+
+        for (String region : dataset.regions()) {
+            add(cases, QueryKind.REGION, region);
+        }
+        for (String subregion : dataset.subregions()) {
+            add(cases, QueryKind.SUBREGION, subregion);
+        }
+        for (String currency : dataset.currencies()) {
+            add(cases, QueryKind.CURRENCY, currency);
+        }
+        for (int row = 0; row < dataset.size(); row++) {
+            add(cases, QueryKind.CODE, dataset.cca2(row));
+            add(cases, QueryKind.CODE, dataset.cca3(row));
+            add(cases, QueryKind.CAPITAL, dataset.capital(row));
+            for (String code : dataset.languageCodes(row)) {
+                add(cases, QueryKind.LANGUAGE, code);
+            }
+            for (String name : dataset.languageNames(row)) {
+                add(cases, QueryKind.LANGUAGE, name);
+            }
+            for (String fragment : nameFragments(dataset.commonName(row))) {
+                add(cases, QueryKind.NAME, fragment);
+            }
+        }
+
+        List<QueryCase> result = new ArrayList<>(cases.values());
+        if (result.size() > maxCases) {
+            Collections.shuffle(result, new Random(seed));
+            result = new ArrayList<>(result.subList(0, maxCases));
+        }
+        return result;
+    }
+
+    private void add(Map<String, QueryCase> cases, QueryKind kind, String term) {
+        if (term == null || term.isBlank() || !isPathSafe(term)) {
+            return;
+        }
+        String key = kind + ":" + term.toLowerCase(Locale.ROOT);
+        if (!cases.containsKey(key)) {
+            cases.put(key, oracle.query(kind, term));
+        }
+    }
+
+    /**
+     * The full name, each word of it and its leading three characters
+     */
+    static List<String> nameFragments(String name) {
+        List<String> fragments = new ArrayList<>();
+        if (name == null) {
+            return fragments;
+        }
+        fragments.add(name);
+        for (String word : name.split("\\s+")) {
+            if (word.length() >= 3 && !word.equals(name)) {
+                fragments.add(word);
+            }
+        }
+        if (name.length() > 3) {
+            fragments.add(name.substring(0, 3));
+        }
+        return fragments;
+    }
+
+    private static boolean isPathSafe(String term) {
+        return term.indexOf('/') < 0 && term.indexOf('?') < 0 && term.indexOf('#') < 0 && term.indexOf('%') < 0;
+    }
+}
@@ -0,0 +1,34 @@
+package com.api.automation.fuzz;
+
+/**
+ * Search endpoints exercised by the differential fuzzer
+ */
+public enum QueryKind {
+    CODE("/alpha/", true),
+    REGION("/region/", true),
+    SUBREGION("/subregion/", true),
+    CURRENCY("/currency/", false),
+    LANGUAGE("/lang/", false),
+    CAPITAL("/capital/", false),
+    NAME("/name/", false);
+
+    private final String pathPrefix;
+    private final boolean exact;
+
+    QueryKind(String pathPrefix, boolean exact) {
+        this.pathPrefix = pathPrefix;
+        this.exact = exact;
+    }
+
+    public String getPathPrefix() {
+        return pathPrefix;
+    }
+
+    /**
+     * Whether the API must return exactly the oracle's set, rather than at least it.
+     * Partial-match endpoints may search fields the local oracle does not hold.
+     */
+    public boolean isExact() {
+        return exact;
+    }
+}
@@ -0,0 +1,212 @@
+package com.api.automation.logging;
+
+import com.api.automation.config.ConfigManager;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Low overhead request log. Request threads claim a slot in a preallocated ring
+ * buffer without locking and a background thread drains it to slf4j. Successful
+ * requests are sampled; failed or slow requests are always kept with full detail.
+ * When the drainer falls behind, records are dropped and counted rather than
+ * blocking the request thread.
+ */
+public class RequestLog {
+    private static final Logger logger = LoggerFactory.getLogger(RequestLog.class);
+    private static final int MAX_BODY_CHARS = 2048;
+    private static final long IDLE_PARK_NANOS = 1_000_000;
+    private static RequestLog shared;
+
+    private final boolean enabled;
+    private final int sampleEvery;
+    private final long slowThresholdNanos;
+    private final RequestRecord[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong next = new AtomicLong();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long consumed;
+
+    RequestLog(boolean enabled, int bufferSize, int sampleEvery, long slowThresholdMillis) {
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize - 1) << 1);
+        this.enabled = enabled;
+        this.sampleEvery = sampleEvery;
+        this.slowThresholdNanos = slowThresholdMillis * 1_000_000;
+        this.slots = new RequestRecord[capacity];
+        this.published = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new RequestRecord();
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * Log configured from config.properties, with its drainer started on first use
+     */
+    public static synchronized RequestLog shared() {
+        if (shared == null) {
+            shared = new RequestLog(ConfigManager.isLoggingEnabled(),
+                    ConfigManager.getRequestLogBufferSize(),
+                    ConfigManager.getRequestLogSampleEvery(),
+                    ConfigManager.getRequestLogSlowThresholdMs());
+            if (shared.enabled) {
+                shared.start();
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Record a completed request; detail is only captured for failed or slow ones
+     */
+    public void record(String method, String endpoint, Map<String, String> queryParams,
+                       Response response, long durationNanos) {
+        if (!enabled) {
+            return;
+        }
+        int status = response.getStatusCode();
+        boolean detailed = status >= 400 || durationNanos >= slowThresholdNanos;
+        if (!detailed && !sampled()) {
+            return;
+        }
+        String detail = detailed ? detail(queryParams, response.getStatusLine(), body(response)) : null;
+        publish(method, endpoint, status, durationNanos, detail);
+    }
+
+    /**
+     * Record a completed request whose body was streamed to the caller and is no longer available
+     */
+    public void record(String method, String endpoint, Map<String, String> queryParams,
+                       int status, String statusLine, long durationNanos) {
+        if (!enabled) {
+            return;
+        }
+        boolean detailed = status >= 400 || durationNanos >= slowThresholdNanos;
+        if (!detailed && !sampled()) {
+            return;
+        }
+        String detail = detailed ? detail(queryParams, statusLine, null) : null;
+        publish(method, endpoint, status, durationNanos, detail);
+    }
+
+    /**
+     * Record a request that did not produce a response
+     */
+    public void recordFailure(String method, String endpoint, Map<String, String> queryParams,
+                              Throwable error, long durationNanos) {
+        if (enabled) {
+            publish(method, endpoint, -1, durationNanos, detail(queryParams, error.toString(), null));
+        }
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    private boolean sampled() {
+        return sampleEvery > 0 && sampleCounter.getAndIncrement() % sampleEvery == 0;
+    }
+
+    private void publish(String method, String endpoint, int status, long durationNanos, String detail) {
+        long sequence;
+        do {
+            sequence = next.get();
+            if (sequence - consumed >= slots.length) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!next.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        RequestRecord record = slots[index];
+        record.method = method;
+        record.endpoint = endpoint;
+        record.thread = Thread.currentThread().getName();
+        record.statusCode = status;
+        record.durationNanos = durationNanos;
+        record.timestampMillis = System.currentTimeMillis();
+        record.detail = detail;
+        // Release the slot to the drainer only after every field is written
+        published.lazySet(index, sequence);
+    }
+
+    private void start() {
+        Thread drainer = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (drain() == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+        }, "request-log-drainer");
+        drainer.setDaemon(true);
+        drainer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::drain, "request-log-flush"));
+    }
+
+    /**
+     * Emit every published record in order, returning how many were written
+     */
+    synchronized int drain() {
+        int drained = 0;
+        long sequence = consumed;
+        while (true) {
+            int index = (int) (sequence & mask);
+            if (published.get(index) != sequence) {
+                break;
+            }
+            emit(slots[index]);
+            slots[index].clear();
+            consumed = ++sequence;
+            drained++;
+        }
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            logger.warn("Dropped {} request log records, buffer of {} was full", lost, slots.length);
+        }
+        return drained;
+    }
+
+    /**
+     * Write one record to slf4j, stamped with when the request finished rather than when it was drained
+     */
+    void emit(RequestRecord record) {
+        long millis = record.durationNanos / 1_000_000;
+        Instant finished = Instant.ofEpochMilli(record.timestampMillis);
+        if (record.detail == null) {
+            logger.info("{} {} {} -> {} in {}ms [{}]", finished, record.method, record.endpoint,
+                    record.statusCode, millis, record.thread);
+        } else {
+            logger.warn("{} {} {} -> {} in {}ms [{}]\n{}", finished, record.method, record.endpoint,
+                    record.statusCode, millis, record.thread, record.detail);
+        }
+    }
+
+    private static String detail(Map<String, String> queryParams, String status, String body) {
+        StringBuilder detail = new StringBuilder();
+        detail.append("  status: ").append(status);
+        if (queryParams != null && !queryParams.isEmpty()) {
+            detail.append("\n  query: ").append(queryParams);
+        }
+        if (body != null && !body.isEmpty()) {
+            detail.append("\n  body: ").append(body);
+        }
+        return detail.toString();
+    }
+
+    private static String body(Response response) {
+        String body = response.asString();
+        if (body == null || body.length() <= MAX_BODY_CHARS) {
+            return body;
+        }
+        return body.substring(0, MAX_BODY_CHARS) + "... (" + body.length() + " chars)";
+    }
+}
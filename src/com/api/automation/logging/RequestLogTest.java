@@ -0,0 +1,85 @@
+package com.api.automation.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for the request log ring buffer, capturing records instead of writing them to slf4j
+ */
+@DisplayName("Request Log Tests")
+public class RequestLogTest {
+
+    /**
+     * Log whose drained records are kept in memory; slots are cleared after emit, so fields are copied
+     */
+    private static class CapturingLog extends RequestLog {
+        final List<String> endpoints = new ArrayList<>();
+        final List<Long> timestamps = new ArrayList<>();
+
+        CapturingLog(int bufferSize) {
+            super(true, bufferSize, 1, 60_000);
+        }
+
+        @Override
+        void emit(RequestRecord record) {
+            endpoints.add(record.endpoint);
+            timestamps.add(record.timestampMillis);
+        }
+    }
+
+    @Test
+    @DisplayName("Records past capacity are dropped and counted, the rest drain in order")
+    public void testOverflowIsDroppedAndCounted() {
+        CapturingLog log = new CapturingLog(4);
+        long before = System.currentTimeMillis();
+
+        for (int i = 0; i < 6; i++) {
+            log.recordFailure("GET", "/" + i, null, new IllegalStateException("boom"), 1_000_000);
+        }
+
+        assertEquals(2L, log.getDropped());
+        assertEquals(4, log.drain());
+        assertEquals(List.of("/0", "/1", "/2", "/3"), log.endpoints);
+        for (long timestamp : log.timestamps) {
+            assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis());
+        }
+        // The warning about the loss has been written, so the counter starts over
+        assertEquals(0L, log.getDropped());
+    }
+
+    @Test
+    @DisplayName("Drained slots are reused in order once the buffer wraps around")
+    public void testSlotsAreReusedAfterDrain() {
+        CapturingLog log = new CapturingLog(4);
+
+        for (int i = 0; i < 3; i++) {
+            log.recordFailure("GET", "/first/" + i, null, new IllegalStateException("boom"), 0);
+        }
+        assertEquals(3, log.drain());
+        for (int i = 0; i < 4; i++) {
+            log.recordFailure("GET", "/second/" + i, null, new IllegalStateException("boom"), 0);
+        }
+
+        assertEquals(0L, log.getDropped());
+        assertEquals(4, log.drain());
+        assertEquals(0, log.drain());
+        assertEquals(List.of("/first/0", "/first/1", "/first/2",
+                "/second/0", "/second/1", "/second/2", "/second/3"), log.endpoints);
+    }
+
+    @Test
+    @DisplayName("A disabled log keeps nothing")
+    public void testDisabledLogIgnoresRecords() {
+        RequestLog log = new RequestLog(false, 4, 1, 60_000);
+
+        log.recordFailure("GET", "/all", null, new IllegalStateException("boom"), 0);
+
+        assertEquals(0L, log.getDropped());
+        assertEquals(0, log.drain());
+    }
+}
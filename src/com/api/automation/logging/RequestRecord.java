@@ -0,0 +1,21 @@
+package com.api.automation.logging;
+
+/**
+ * Preallocated ring buffer slot, overwritten in place for every logged request
+ */
+final class RequestRecord {
+    String method;
+    String endpoint;
+    String thread;
+    int statusCode;
+    long durationNanos;
+    long timestampMillis;
+    String detail;
+
+    void clear() {
+        method = null;
+        endpoint = null;
+        thread = null;
+        detail = null;
+    }
+}
@@ -0,0 +1,114 @@
+package com.api.automation.perf;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Stored per-endpoint latency samples and payload sizes that later runs are compared against
+ */
+public class LatencyBaseline {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+    // Rolling window per endpoint, so the baseline follows deliberate changes over time
+    private static final int MAX_SAMPLES = 200;
+
+    private Map<String, Endpoint> endpoints = new TreeMap<>();
+
+    public LatencyBaseline() {}
+
+    public static LatencyBaseline load(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return new LatencyBaseline();
+        }
+        return MAPPER.readValue(file.toFile(), LatencyBaseline.class);
+    }
+
+    /**
+     * Merge a run's samples into the baseline file. Endpoints this run did not touch are kept
+     * as long as they are still gated; any other key is dropped.
+     */
+    public static synchronized void update(Path file, Map<String, List<Double>> latencies,
+                                           Map<String, Double> payloads, Set<String> gated) throws IOException {
+        LatencyBaseline baseline = load(file);
+        baseline.endpoints.keySet().retainAll(gated);
+        for (Map.Entry<String, List<Double>> entry : latencies.entrySet()) {
+            Endpoint endpoint = baseline.endpoints.computeIfAbsent(entry.getKey(), key -> new Endpoint());
+            List<Double> samples = new ArrayList<>(endpoint.getLatencies());
+            samples.addAll(entry.getValue());
+            if (samples.size() > MAX_SAMPLES) {
+                samples = new ArrayList<>(samples.subList(samples.size() - MAX_SAMPLES, samples.size()));
+            }
+            endpoint.setLatencies(samples);
+            endpoint.setP50(LatencyStatistics.percentile(samples, 0.50));
+            endpoint.setP99(LatencyStatistics.percentile(samples, 0.99));
+            endpoint.setMeanPayloadBytes(payloads.getOrDefault(entry.getKey(), Double.NaN));
+        }
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        MAPPER.writeValue(temp.toFile(), baseline);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    public Map<String, Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(Map<String, Endpoint> endpoints) {
+        this.endpoints = new TreeMap<>(endpoints);
+    }
+
+    /**
+     * Baseline of a single endpoint; p50 and p99 are stored for readers of the file
+     */
+    public static class Endpoint {
+        private List<Double> latencies = new ArrayList<>();
+        private double p50;
+        private double p99;
+        private double meanPayloadBytes = Double.NaN;
+
+        public List<Double> getLatencies() {
+            return latencies;
+        }
+
+        public void setLatencies(List<Double> latencies) {
+            this.latencies = latencies;
+        }
+
+        public double getP50() {
+            return p50;
+        }
+
+        public void setP50(double p50) {
+            this.p50 = p50;
+        }
+
+        public double getP99() {
+            return p99;
+        }
+
+        public void setP99(double p99) {
+            this.p99 = p99;
+        }
+
+        public double getMeanPayloadBytes() {
+            return meanPayloadBytes;
+        }
+
+        public void setMeanPayloadBytes(double meanPayloadBytes) {
+            this.meanPayloadBytes = meanPayloadBytes;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.api.automation.perf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the latency and payload size of every request made in this run, per endpoint
+ */
+public class LatencyRecorder {
+    private static final LatencyRecorder SHARED = new LatencyRecorder();
+
+    private final Map<String, Samples> endpoints = new ConcurrentHashMap<>();
+
+    public static LatencyRecorder shared() {
+        return SHARED;
+    }
+
+    public static String key(String method, String endpoint, Map<String, String> queryParams) {
+        String key = method + " " + endpoint;
+        return queryParams == null || queryParams.isEmpty() ? key : key + "?" + new TreeMap<>(queryParams);
+    }
+
+    /**
+     * Record one request; a negative payload size means the size is unknown
+     */
+    public void record(String key, long durationNanos, long payloadBytes) {
+        endpoints.computeIfAbsent(key, k -> new Samples()).add(durationNanos / 1_000_000.0, payloadBytes);
+    }
+
+    /**
+     * Latencies in milliseconds recorded so far, keyed by endpoint
+     */
+    public Map<String, List<Double>> latencies() {
+        Map<String, List<Double>> latencies = new TreeMap<>();
+        endpoints.forEach((key, samples) -> latencies.put(key, samples.latencies()));
+        return latencies;
+    }
+
+    /**
+     * Mean payload size in bytes recorded so far, keyed by endpoint; NaN when no size was known
+     */
+    public Map<String, Double> meanPayloadBytes() {
+        Map<String, Double> payloads = new TreeMap<>();
+        endpoints.forEach((key, samples) -> payloads.put(key, samples.meanPayloadBytes()));
+        return payloads;
+    }
+
+    private static class Samples {
+        private final List<Double> latencies = new ArrayList<>();
+        private long totalBytes;
+        private int sized;
+
+        synchronized void add(double latencyMillis, long payloadBytes) {
+            latencies.add(latencyMillis);
+            if (payloadBytes >= 0) {
+                totalBytes += payloadBytes;
+                sized++;
+            }
+        }
+
+        synchronized List<Double> latencies() {
+            return new ArrayList<>(latencies);
+        }
+
+        synchronized double meanPayloadBytes() {
+            return sized == 0 ? Double.NaN : (double) totalBytes / sized;
+        }
+    }
+}
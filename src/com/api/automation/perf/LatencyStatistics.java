@@ -0,0 +1,101 @@
+package com.api.automation.perf;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Percentiles and the Mann-Whitney U test used to compare latency samples.
+ * Latencies are skewed and heavy tailed, so a rank test is used rather than
+ * comparing means.
+ */
+public final class LatencyStatistics {
+
+    private LatencyStatistics() {}
+
+    /**
+     * Nearest-rank percentile, e.g. 0.99 for p99
+     */
+    public static double percentile(List<Double> samples, double quantile) {
+        if (samples.isEmpty()) {
+            return Double.NaN;
+        }
+        List<Double> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        int rank = (int) Math.ceil(quantile * sorted.size());
+        return sorted.get(Math.max(0, Math.min(sorted.size() - 1, rank - 1)));
+    }
+
+    /**
+     * One-sided p-value for the hypothesis that current latencies tend to be
+     * larger than baseline latencies, using the normal approximation with tie
+     * and continuity corrections
+     */
+    public static double mannWhitneyGreaterPValue(List<Double> baseline, List<Double> current) {
+        int n1 = baseline.size();
+        int n2 = current.size();
+        if (n1 == 0 || n2 == 0) {
+            return 1.0;
+        }
+        int total = n1 + n2;
+        double[] values = new double[total];
+        boolean[] isCurrent = new boolean[total];
+        Integer[] order = new Integer[total];
+        for (int i = 0; i < n1; i++) {
+            values[i] = baseline.get(i);
+        }
+        for (int i = 0; i < n2; i++) {
+            values[n1 + i] = current.get(i);
+            isCurrent[n1 + i] = true;
+        }
+        for (int i = 0; i < total; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        double currentRankSum = 0;
+        double tieCorrection = 0;
+        for (int start = 0; start < total; ) {
+            int end = start;
+            while (end + 1 < total && values[order[end + 1]] == values[order[start]]) {
+                end++;
+            }
+            // Tied values share the average of their ranks
+            double rank = (start + end + 2) / 2.0;
+            for (int i = start; i <= end; i++) {
+                if (isCurrent[order[i]]) {
+                    currentRankSum += rank;
+                }
+            }
+            double ties = end - start + 1;
+            tieCorrection += ties * ties * ties - ties;
+            start = end + 1;
+        }
+
+        double u = currentRankSum - n2 * (n2 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((total + 1) - tieCorrection / (total * (double) (total - 1)));
+        if (variance <= 0) {
+            return 1.0;
+        }
+        double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return 1.0 - normalCdf(z);
+    }
+
+    static double normalCdf(double z) {
+        return 0.5 * (1.0 + erf(z / Math.sqrt(2.0)));
+    }
+
+    /**
+     * Abramowitz and Stegun 7.1.26, accurate to about 1.5e-7
+     */
+    private static double erf(double x) {
+        double sign = Math.signum(x);
+        x = Math.abs(x);
+        double t = 1.0 / (1.0 + 0.3275911 * x);
+        double y = 1.0 - (((((1.061405429 * t - 1.453152027) * t) + 1.421413741) * t - 0.284496736) * t
+                + 0.254829592) * t * Math.exp(-x * x);
+        return sign * y;
+    }
+}
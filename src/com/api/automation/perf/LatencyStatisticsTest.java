@@ -0,0 +1,84 @@
+package com.api.automation.perf;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for the percentiles and the Mann-Whitney U test behind the performance gate
+ */
+@DisplayName("Latency Statistics Tests")
+public class LatencyStatisticsTest {
+    private static final double EPSILON = 1e-4;
+
+    private static List<Double> samples(double... values) {
+        Double[] boxed = new Double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxed[i] = values[i];
+        }
+        return Arrays.asList(boxed);
+    }
+
+    @Test
+    @DisplayName("Nearest-rank percentiles on small lists")
+    public void testNearestRankPercentile() {
+        List<Double> ten = samples(7, 3, 10, 1, 9, 2, 8, 4, 6, 5);
+        assertEquals(5.0, LatencyStatistics.percentile(ten, 0.50), 0);
+        assertEquals(10.0, LatencyStatistics.percentile(ten, 0.99), 0);
+        assertEquals(9.0, LatencyStatistics.percentile(ten, 0.90), 0);
+
+        List<Double> three = samples(3, 1, 2);
+        assertEquals(2.0, LatencyStatistics.percentile(three, 0.50), 0);
+        assertEquals(3.0, LatencyStatistics.percentile(three, 0.99), 0);
+        assertEquals(1.0, LatencyStatistics.percentile(three, 0.0), 0);
+
+        assertEquals(7.0, LatencyStatistics.percentile(samples(7), 0.99), 0);
+        assertTrue(Double.isNaN(LatencyStatistics.percentile(Collections.emptyList(), 0.50)));
+    }
+
+    @Test
+    @DisplayName("Fully separated samples give the textbook p-value")
+    public void testSeparatedSamples() {
+        // U = 25, mean 12.5, variance 22.917, z = (25 - 12.5 - 0.5) / 4.787 = 2.5067
+        double p = LatencyStatistics.mannWhitneyGreaterPValue(samples(1, 2, 3, 4, 5), samples(6, 7, 8, 9, 10));
+        assertEquals(0.006093, p, EPSILON);
+
+        double reversed = LatencyStatistics.mannWhitneyGreaterPValue(samples(6, 7, 8, 9, 10), samples(1, 2, 3, 4, 5));
+        assertEquals(0.996692, reversed, EPSILON);
+    }
+
+    @Test
+    @DisplayName("Tied values share ranks and shrink the variance")
+    public void testTieCorrection() {
+        // Ranks 1, 3, 3, 3, 6, 6, 6, 8: U = 13, tie term 48, variance 10.857, z = 1.3657
+        double p = LatencyStatistics.mannWhitneyGreaterPValue(samples(1, 2, 2, 3), samples(2, 3, 3, 4));
+        assertEquals(0.086017, p, EPSILON);
+
+        // Overlapping ranges with four ties between the groups: U = 28, z = 1.5320
+        double overlap = LatencyStatistics.mannWhitneyGreaterPValue(
+                samples(10, 11, 12, 13, 14, 15), samples(12, 13, 14, 15, 16, 17));
+        assertEquals(0.062765, overlap, EPSILON);
+    }
+
+    @Test
+    @DisplayName("Identical samples never look slower")
+    public void testIdenticalSamples() {
+        // U equals its mean, so only the continuity correction moves z, and it moves it down
+        double p = LatencyStatistics.mannWhitneyGreaterPValue(samples(1, 2, 3, 4, 5), samples(1, 2, 3, 4, 5));
+        assertEquals(0.542235, p, EPSILON);
+        assertTrue(p >= 0.5);
+    }
+
+    @Test
+    @DisplayName("Zero variance or no samples give p = 1")
+    public void testDegenerateSamples() {
+        assertEquals(1.0, LatencyStatistics.mannWhitneyGreaterPValue(samples(5, 5, 5), samples(5, 5, 5)), 0);
+        assertEquals(1.0, LatencyStatistics.mannWhitneyGreaterPValue(Collections.emptyList(), samples(1, 2)), 0);
+        assertEquals(1.0, LatencyStatistics.mannWhitneyGreaterPValue(samples(1, 2), Collections.emptyList()), 0);
+    }
+}
@@ -0,0 +1,142 @@
+package com.api.automation.perf;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a run's latencies with the stored baseline. An endpoint regresses
+ * when its latencies are significantly larger (Mann-Whitney U) and its p50 or
+ * p99 moved beyond the configured tolerance.
+ */
+public class PerformanceGate {
+    private final double alpha;
+    private final double p50Tolerance;
+    private final double p99Tolerance;
+    private final int minSamples;
+
+    public PerformanceGate(double alpha, double p50Tolerance, double p99Tolerance, int minSamples) {
+        this.alpha = alpha;
+        this.p50Tolerance = p50Tolerance;
+        this.p99Tolerance = p99Tolerance;
+        this.minSamples = minSamples;
+    }
+
+    public Comparison compare(LatencyBaseline baseline, Map<String, List<Double>> current,
+                              Map<String, Double> payloads) {
+        List<Row> rows = new ArrayList<>();
+        for (Map.Entry<String, List<Double>> entry : current.entrySet()) {
+            List<Double> samples = entry.getValue();
+            LatencyBaseline.Endpoint stored = baseline.getEndpoints().get(entry.getKey());
+            List<Double> before = stored == null ? Collections.emptyList() : stored.getLatencies();
+
+            Row row = new Row(entry.getKey(), before.size(), samples.size());
+            row.p50 = LatencyStatistics.percentile(samples, 0.50);
+            row.p99 = LatencyStatistics.percentile(samples, 0.99);
+            row.payloadBytes = payloads.getOrDefault(entry.getKey(), Double.NaN);
+            if (stored == null) {
+                row.verdict = Verdict.NEW;
+            } else {
+                row.baselineP50 = LatencyStatistics.percentile(before, 0.50);
+                row.baselineP99 = LatencyStatistics.percentile(before, 0.99);
+                row.baselinePayloadBytes = stored.getMeanPayloadBytes();
+                if (before.size() < minSamples || samples.size() < minSamples) {
+                    row.verdict = Verdict.INSUFFICIENT;
+                } else {
+                    row.pValue = LatencyStatistics.mannWhitneyGreaterPValue(before, samples);
+                    boolean shifted = row.p50 > row.baselineP50 * (1 + p50Tolerance)
+                            || row.p99 > row.baselineP99 * (1 + p99Tolerance);
+                    row.verdict = row.pValue < alpha && shifted ? Verdict.REGRESSED : Verdict.OK;
+                }
+            }
+            rows.add(row);
+        }
+        return new Comparison(rows);
+    }
+
+    public enum Verdict {
+        OK, REGRESSED, INSUFFICIENT, NEW
+    }
+
+    /**
+     * Comparison of one endpoint with its baseline
+     */
+    public static class Row {
+        private final String endpoint;
+        private final int baselineSamples;
+        private final int samples;
+        private double p50;
+        private double p99;
+        private double baselineP50 = Double.NaN;
+        private double baselineP99 = Double.NaN;
+        private double payloadBytes = Double.NaN;
+        private double baselinePayloadBytes = Double.NaN;
+        private double pValue = Double.NaN;
+        private Verdict verdict;
+
+        Row(String endpoint, int baselineSamples, int samples) {
+            this.endpoint = endpoint;
+            this.baselineSamples = baselineSamples;
+            this.samples = samples;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public Verdict getVerdict() {
+            return verdict;
+        }
+
+        public double getPValue() {
+            return pValue;
+        }
+    }
+
+    /**
+     * Outcome of comparing every endpoint measured in a run
+     */
+    public static class Comparison {
+        private final List<Row> rows;
+
+        Comparison(List<Row> rows) {
+            this.rows = Collections.unmodifiableList(rows);
+        }
+
+        public List<Row> getRows() {
+            return rows;
+        }
+
+        public List<Row> getRegressions() {
+            List<Row> regressions = new ArrayList<>();
+            for (Row row : rows) {
+                if (row.verdict == Verdict.REGRESSED) {
+                    regressions.add(row);
+                }
+            }
+            return regressions;
+        }
+
+        public String toReport() {
+            StringBuilder report = new StringBuilder();
+            report.append(String.format("%-12s %-50s %7s %9s %9s %9s %9s %10s %10s %8s%n",
+                    "verdict", "endpoint", "n(b/c)", "p50 base", "p50", "p99 base", "p99",
+                    "bytes base", "bytes", "p-value"));
+            for (Row row : rows) {
+                report.append(String.format("%-12s %-50s %7s %9.1f %9.1f %9.1f %9.1f %10s %10s %8.4f%n",
+                        row.verdict, row.endpoint, row.baselineSamples + "/" + row.samples,
+                        row.baselineP50, row.p50, row.baselineP99, row.p99,
+                        bytes(row.baselinePayloadBytes), bytes(row.payloadBytes), row.pValue));
+            }
+            return report.toString();
+        }
+
+        /**
+         * Unknown sizes print as n/a so they cannot be mistaken for empty bodies
+         */
+        private static String bytes(double bytes) {
+            return Double.isNaN(bytes) ? "n/a" : String.format("%.0f", bytes);
+        }
+    }
+}
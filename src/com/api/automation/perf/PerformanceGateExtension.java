@@ -0,0 +1,81 @@
+package com.api.automation.perf;
+
+import com.api.automation.config.ConfigManager;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compares the run's request latencies with the stored baseline once all tests
+ * have run, writing a comparison report and warning or failing on regressions
+ */
+public class PerformanceGateExtension implements BeforeAllCallback {
+    private static final Logger logger = LoggerFactory.getLogger(PerformanceGateExtension.class);
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(PerformanceGateExtension.class);
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!"off".equals(ConfigManager.getPerfGateMode())) {
+            // Closed by JUnit when the root context ends, i.e. after the last test
+            context.getRoot().getStore(NAMESPACE)
+                    .getOrComputeIfAbsent("gate", key -> new GateCheck(), GateCheck.class);
+        }
+    }
+
+    private static class GateCheck implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() throws Throwable {
+            // Only the probe's endpoints are gated; one-off URLs from other tests never have enough samples
+            Set<String> probeKeys = ProbeEndpoint.configuredKeys();
+            LatencyRecorder recorder = LatencyRecorder.shared();
+            Map<String, List<Double>> latencies = recorder.latencies();
+            latencies.keySet().retainAll(probeKeys);
+            if (latencies.isEmpty()) {
+                // The probe did not run in this JVM (e.g. the surefire run), so neither compare nor update
+                return;
+            }
+            Map<String, Double> payloads = recorder.meanPayloadBytes();
+            payloads.keySet().retainAll(probeKeys);
+            Path baselineFile = Paths.get(ConfigManager.getHistoryDir(), "latency-baseline.json");
+            PerformanceGate gate = new PerformanceGate(ConfigManager.getPerfGateAlpha(),
+                    ConfigManager.getPerfGateP50Tolerance(), ConfigManager.getPerfGateP99Tolerance(),
+                    ConfigManager.getPerfGateMinSamples());
+            PerformanceGate.Comparison comparison = gate.compare(LatencyBaseline.load(baselineFile), latencies, payloads);
+
+            Path reportFile = Paths.get(ConfigManager.getReportDir(), "perf-report.txt");
+            Files.createDirectories(reportFile.getParent());
+            Files.write(reportFile, comparison.toReport().getBytes(StandardCharsets.UTF_8));
+            logger.info("Latency comparison against baseline:\n{}", comparison.toReport());
+
+            List<PerformanceGate.Row> regressions = comparison.getRegressions();
+            // A regressed run must not become the new baseline unless asked to
+            if (regressions.isEmpty() || ConfigManager.isPerfBaselineUpdate()) {
+                LatencyBaseline.update(baselineFile, latencies, payloads, probeKeys);
+            }
+            if (regressions.isEmpty()) {
+                return;
+            }
+            StringBuilder message = new StringBuilder();
+            message.append(regressions.size()).append(" endpoint(s) regressed against the latency baseline, see ")
+                    .append(reportFile).append(':');
+            for (PerformanceGate.Row row : regressions) {
+                message.append(' ').append(row.getEndpoint())
+                        .append(String.format(" (p=%.4f)", row.getPValue()));
+            }
+            if ("fail".equals(ConfigManager.getPerfGateMode())) {
+                throw new AssertionError(message.toString());
+            }
+            logger.warn(message.toString());
+        }
+    }
+}
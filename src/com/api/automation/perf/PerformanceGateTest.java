@@ -0,0 +1,109 @@
+package com.api.automation.perf;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for the verdicts of the performance gate
+ */
+@DisplayName("Performance Gate Tests")
+public class PerformanceGateTest {
+    private static final String KEY = "GET /alpha/us";
+
+    private final PerformanceGate gate = new PerformanceGate(0.01, 0.20, 0.50, 5);
+
+    private static List<Double> range(double from, double step, int count) {
+        List<Double> samples = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            samples.add(from + i * step);
+        }
+        return samples;
+    }
+
+    private static LatencyBaseline baseline(List<Double> latencies) {
+        LatencyBaseline.Endpoint endpoint = new LatencyBaseline.Endpoint();
+        endpoint.setLatencies(latencies);
+        LatencyBaseline baseline = new LatencyBaseline();
+        baseline.setEndpoints(Collections.singletonMap(KEY, endpoint));
+        return baseline;
+    }
+
+    private PerformanceGate.Row compare(LatencyBaseline baseline, List<Double> current) {
+        Map<String, List<Double>> latencies = new TreeMap<>();
+        latencies.put(KEY, current);
+        return gate.compare(baseline, latencies, Collections.emptyMap()).getRows().get(0);
+    }
+
+    @Test
+    @DisplayName("A significant shift beyond tolerance regresses")
+    public void testRegressed() {
+        PerformanceGate.Row row = compare(baseline(range(10, 1, 10)), range(20, 1, 10));
+
+        assertEquals(PerformanceGate.Verdict.REGRESSED, row.getVerdict());
+        assertTrue(row.getPValue() < 0.01);
+    }
+
+    @Test
+    @DisplayName("A significant shift within tolerance is OK")
+    public void testSignificantWithinTolerance() {
+        // p50 moves about 5%, well under the 20% tolerance, but with 100 samples each it is significant
+        PerformanceGate.Row row = compare(baseline(range(100, 0.1, 100)), range(105, 0.1, 100));
+
+        assertTrue(row.getPValue() < 0.01);
+        assertEquals(PerformanceGate.Verdict.OK, row.getVerdict());
+    }
+
+    @Test
+    @DisplayName("A single slow outlier beyond the p99 tolerance is not significant")
+    public void testToleranceExceededWithoutSignificance() {
+        PerformanceGate.Row row = compare(baseline(range(10, 1, 5)), List.of(9.0, 10.0, 11.0, 12.0, 100.0));
+
+        assertTrue(row.getPValue() >= 0.01);
+        assertEquals(PerformanceGate.Verdict.OK, row.getVerdict());
+    }
+
+    @Test
+    @DisplayName("Too few samples on either side are insufficient")
+    public void testInsufficientSamples() {
+        assertEquals(PerformanceGate.Verdict.INSUFFICIENT,
+                compare(baseline(range(10, 1, 4)), range(100, 1, 10)).getVerdict());
+        assertEquals(PerformanceGate.Verdict.INSUFFICIENT,
+                compare(baseline(range(10, 1, 10)), range(100, 1, 4)).getVerdict());
+        assertEquals(PerformanceGate.Verdict.REGRESSED,
+                compare(baseline(range(10, 1, 5)), range(100, 1, 5)).getVerdict());
+    }
+
+    @Test
+    @DisplayName("An endpoint missing from the baseline is new")
+    public void testNewEndpoint() {
+        PerformanceGate.Row row = compare(new LatencyBaseline(), range(100, 1, 10));
+
+        assertEquals(PerformanceGate.Verdict.NEW, row.getVerdict());
+        assertTrue(Double.isNaN(row.getPValue()));
+    }
+
+    @Test
+    @DisplayName("Only regressed rows are reported as regressions, unknown sizes print as n/a")
+    public void testComparisonReport() {
+        Map<String, List<Double>> latencies = new TreeMap<>();
+        latencies.put(KEY, range(20, 1, 10));
+        latencies.put("GET /region/europe", range(20, 1, 10));
+        PerformanceGate.Comparison comparison = gate.compare(baseline(range(10, 1, 10)), latencies,
+                Collections.singletonMap(KEY, 512.0));
+
+        assertEquals(2, comparison.getRows().size());
+        assertEquals(1, comparison.getRegressions().size());
+        assertEquals(KEY, comparison.getRegressions().get(0).getEndpoint());
+        String report = comparison.toReport();
+        assertTrue(report.contains("512"), report);
+        assertTrue(report.contains("n/a"), report);
+    }
+}
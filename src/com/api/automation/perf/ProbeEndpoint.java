@@ -0,0 +1,74 @@
+package com.api.automation.perf;
+
+import com.api.automation.config.ConfigManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An endpoint measured by the latency probe, parsed from a perf.probe.endpoints entry such as
+ * {@code /all?fields=cca3}. Only these endpoints are gated and kept in the baseline.
+ */
+public class ProbeEndpoint {
+    private final String path;
+    private final Map<String, String> queryParams;
+
+    ProbeEndpoint(String endpoint) {
+        int query = endpoint.indexOf('?');
+        this.path = query < 0 ? endpoint : endpoint.substring(0, query);
+        Map<String, String> params = new LinkedHashMap<>();
+        if (query >= 0) {
+            for (String pair : endpoint.substring(query + 1).split("&")) {
+                int eq = pair.indexOf('=');
+                if (eq > 0) {
+                    params.put(pair.substring(0, eq), pair.substring(eq + 1));
+                }
+            }
+        }
+        this.queryParams = Collections.unmodifiableMap(params);
+    }
+
+    public static List<ProbeEndpoint> configured() {
+        List<ProbeEndpoint> endpoints = new ArrayList<>();
+        for (String endpoint : ConfigManager.getPerfProbeEndpoints()) {
+            endpoints.add(new ProbeEndpoint(endpoint));
+        }
+        return endpoints;
+    }
+
+    /**
+     * Latency recorder keys of the configured probe endpoints
+     */
+    public static Set<String> configuredKeys() {
+        Set<String> keys = new LinkedHashSet<>();
+        for (ProbeEndpoint endpoint : configured()) {
+            keys.add(endpoint.key());
+        }
+        return keys;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Query parameters, or null when the endpoint has none
+     */
+    public Map<String, String> getQueryParams() {
+        return queryParams.isEmpty() ? null : queryParams;
+    }
+
+    public String key() {
+        return LatencyRecorder.key("GET", path, queryParams);
+    }
+
+    @Override
+    public String toString() {
+        return key();
+    }
+}
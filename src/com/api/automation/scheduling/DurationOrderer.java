@@ -0,0 +1,36 @@
+package com.api.automation.scheduling;
+
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * Orders test methods longest-first by their recorded duration so that slow
+ * methods start early when tests run in parallel. Methods never timed before
+ * run first, in declaration order.
+ */
+public class DurationOrderer implements MethodOrderer {
+
+    /**
+     * Ordered methods default to running on one thread; leave it to
+     * junit-platform.properties so that the order decides what starts first
+     */
+    @Override
+    public Optional<ExecutionMode> getDefaultExecutionMode() {
+        return Optional.empty();
+    }
+
+    @Override
+    public void orderMethods(MethodOrdererContext context) {
+        TimingHistory history = TimingHistory.shared();
+        Class<?> testClass = context.getTestClass();
+        context.getMethodDescriptors().sort(Comparator.comparingLong((MethodDescriptor descriptor) -> {
+            long duration = history.durationOf(TimingHistory.key(testClass, descriptor.getMethod().getName()));
+            return duration < 0 ? Long.MAX_VALUE : duration;
+        }).reversed());
+    }
+}
@@ -0,0 +1,41 @@
+package com.api.automation.scheduling;
+
+import com.api.automation.config.ConfigManager;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * Runs only the test methods planned for this worker's shard when the suite is
+ * split across workers with test.shard.count and test.shard.index
+ */
+public class ShardCondition implements ExecutionCondition {
+    private static ShardPlanner planner;
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        int shardCount = ConfigManager.getShardCount();
+        Optional<Method> method = context.getTestMethod();
+        if (shardCount <= 1 || !method.isPresent()) {
+            return ConditionEvaluationResult.enabled("Sharding is not active");
+        }
+
+        int shardIndex = ConfigManager.getShardIndex();
+        int shard = planner(shardCount).shardOf(
+                TimingHistory.key(context.getRequiredTestClass(), method.get().getName()));
+        if (shard == shardIndex) {
+            return ConditionEvaluationResult.enabled("Assigned to shard " + shardIndex);
+        }
+        return ConditionEvaluationResult.disabled("Assigned to shard " + shard + " of " + shardCount);
+    }
+
+    private static synchronized ShardPlanner planner(int shardCount) {
+        if (planner == null) {
+            planner = new ShardPlanner(TimingHistory.shared().getDurations(), shardCount);
+        }
+        return planner;
+    }
+}
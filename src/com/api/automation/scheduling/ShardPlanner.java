@@ -0,0 +1,53 @@
+package com.api.automation.scheduling;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Assigns test methods to shards longest-first, each going to the currently
+ * least loaded shard, which keeps the slowest shard close to the optimum
+ */
+public class ShardPlanner {
+    private final Map<String, Integer> assignments = new HashMap<>();
+    private final long[] loads;
+
+    public ShardPlanner(Map<String, Long> durations, int shardCount) {
+        this.loads = new long[Math.max(1, shardCount)];
+
+        List<Map.Entry<String, Long>> longestFirst = new ArrayList<>(durations.entrySet());
+        longestFirst.sort(Map.Entry.<String, Long>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        PriorityQueue<Integer> shards = new PriorityQueue<>(
+                Comparator.<Integer>comparingLong(shard -> loads[shard]).thenComparing(shard -> shard));
+        for (int shard = 0; shard < loads.length; shard++) {
+            shards.add(shard);
+        }
+        for (Map.Entry<String, Long> entry : longestFirst) {
+            int shard = shards.poll();
+            assignments.put(entry.getKey(), shard);
+            loads[shard] += entry.getValue();
+            shards.add(shard);
+        }
+    }
+
+    /**
+     * Shard that runs the given test method. Methods without history are spread
+     * by hash so that every shard agrees on the assignment.
+     */
+    public int shardOf(String key) {
+        Integer shard = assignments.get(key);
+        return shard != null ? shard : Math.floorMod(key.hashCode(), loads.length);
+    }
+
+    /**
+     * Planned total duration of each shard in milliseconds
+     */
+    public long[] getLoads() {
+        return loads.clone();
+    }
+}
@@ -0,0 +1,65 @@
+package com.api.automation.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offline tests for the longest-first shard assignment
+ */
+@DisplayName("Shard Planner Tests")
+public class ShardPlannerTest {
+
+    @Test
+    @DisplayName("Longest methods go first, each to the least loaded shard")
+    public void testLongestProcessingTimeAssignment() {
+        Map<String, Long> durations = new HashMap<>();
+        durations.put("A#a", 10L);
+        durations.put("A#b", 8L);
+        durations.put("A#c", 6L);
+        durations.put("A#d", 4L);
+        durations.put("A#e", 2L);
+
+        ShardPlanner planner = new ShardPlanner(durations, 2);
+
+        assertEquals(0, planner.shardOf("A#a"));
+        assertEquals(1, planner.shardOf("A#b"));
+        assertEquals(1, planner.shardOf("A#c"));
+        assertEquals(0, planner.shardOf("A#d"));
+        // Both shards are at 14 here, ties go to the lower index
+        assertEquals(0, planner.shardOf("A#e"));
+        assertEquals(16L, planner.getLoads()[0]);
+        assertEquals(14L, planner.getLoads()[1]);
+    }
+
+    @Test
+    @DisplayName("Methods without history are spread by hash, whatever history each shard sees")
+    public void testHashFallbackAgreesAcrossHistories() {
+        Map<String, Long> history = new HashMap<>();
+        history.put("A#a", 10L);
+        history.put("A#b", 8L);
+        ShardPlanner withHistory = new ShardPlanner(history, 3);
+        ShardPlanner withoutHistory = new ShardPlanner(Collections.emptyMap(), 3);
+
+        for (String key : new String[]{"B#new", "B#other", "C#third"}) {
+            int expected = Math.floorMod(key.hashCode(), 3);
+            assertEquals(expected, withHistory.shardOf(key), key);
+            assertEquals(expected, withoutHistory.shardOf(key), key);
+        }
+    }
+
+    @Test
+    @DisplayName("A shard count below one plans a single shard")
+    public void testSingleShardFallback() {
+        ShardPlanner planner = new ShardPlanner(Collections.singletonMap("A#a", 5L), 0);
+
+        assertEquals(1, planner.getLoads().length);
+        assertEquals(0, planner.shardOf("A#a"));
+        assertEquals(0, planner.shardOf("B#unknown"));
+    }
+}
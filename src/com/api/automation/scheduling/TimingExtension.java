@@ -0,0 +1,39 @@
+package com.api.automation.scheduling;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Records how long each test method takes and saves the history once all tests have run
+ */
+public class TimingExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(TimingExtension.class);
+    private static final String START = "start";
+    private static final String FLUSH = "flush";
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        // Closed by JUnit when the root context ends, i.e. after the last test
+        context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(FLUSH, key -> new HistoryFlush(), HistoryFlush.class);
+        context.getStore(NAMESPACE).put(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        Long start = context.getStore(NAMESPACE).remove(START, Long.class);
+        if (start != null) {
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            TimingHistory.shared().record(
+                    TimingHistory.key(context.getRequiredTestClass(), context.getRequiredTestMethod().getName()), millis);
+        }
+    }
+
+    private static class HistoryFlush implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() throws Throwable {
+            TimingHistory.shared().save();
+        }
+    }
+}
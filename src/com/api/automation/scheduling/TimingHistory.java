@@ -0,0 +1,125 @@
+package com.api.automation.scheduling;
+
+import com.api.automation.config.ConfigManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Historical test method durations, persisted between runs as a properties file
+ * of {@code ClassName#method=millis}
+ */
+public class TimingHistory {
+    // Weight of the latest run in the moving average, damping one-off slow runs
+    private static final double SMOOTHING = 0.5;
+    private static TimingHistory shared;
+
+    private final Path file;
+    private final Map<String, Long> history;
+    private final Map<String, Long> currentRun = new ConcurrentHashMap<>();
+
+    TimingHistory(Path file) {
+        this.file = file;
+        this.history = Collections.unmodifiableMap(read(file));
+    }
+
+    /**
+     * History stored under the configured history directory, loaded once per JVM
+     */
+    public static synchronized TimingHistory shared() {
+        if (shared == null) {
+            shared = new TimingHistory(Paths.get(ConfigManager.getHistoryDir(), "test-timings.properties"));
+        }
+        return shared;
+    }
+
+    public static String key(Class<?> testClass, String methodName) {
+        return testClass.getName() + "#" + methodName;
+    }
+
+    /**
+     * Durations recorded by previous runs, keyed by test method
+     */
+    public Map<String, Long> getDurations() {
+        return history;
+    }
+
+    /**
+     * Historical duration of a test method, or -1 when it has never been timed
+     */
+    public long durationOf(String key) {
+        Long duration = history.get(key);
+        return duration == null ? -1 : duration;
+    }
+
+    /**
+     * Add time spent in a test method during this run; invocations of a
+     * parameterized method add up
+     */
+    public void record(String key, long millis) {
+        currentRun.merge(key, millis, Long::sum);
+    }
+
+    /**
+     * Fold this run's timings into the file, keeping entries recorded by other
+     * runs (e.g. other shards) that this run did not execute
+     */
+    public synchronized void save() throws IOException {
+        if (currentRun.isEmpty()) {
+            return;
+        }
+        Map<String, Long> merged = read(file);
+        for (Map.Entry<String, Long> entry : currentRun.entrySet()) {
+            Long previous = merged.get(entry.getKey());
+            long value = previous == null ? entry.getValue()
+                    : Math.round(SMOOTHING * entry.getValue() + (1 - SMOOTHING) * previous);
+            merged.put(entry.getKey(), value);
+        }
+
+        Properties properties = new Properties();
+        for (Map.Entry<String, Long> entry : merged.entrySet()) {
+            properties.setProperty(entry.getKey(), Long.toString(entry.getValue()));
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, "Test method durations in milliseconds");
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        currentRun.clear();
+    }
+
+    private static Map<String, Long> read(Path file) {
+        Map<String, Long> durations = new TreeMap<>();
+        if (!Files.exists(file)) {
+            return durations;
+        }
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(file)) {
+            properties.load(input);
+        } catch (IOException e) {
+            System.err.println("Failed to load test timing history: " + e.getMessage());
+            return durations;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            try {
+                durations.put(key, Long.parseLong(properties.getProperty(key).trim()));
+            } catch (NumberFormatException e) {
+                // Ignore corrupt entries, they are rewritten on the next save
+            }
+        }
+        return durations;
+    }
+}
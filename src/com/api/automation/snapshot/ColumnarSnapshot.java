@@ -0,0 +1,234 @@
+package com.api.automation.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Read-only, memory-mapped view over a columnar country snapshot
+ * Opening only validates the header; values are decoded on access
+ */
+public class ColumnarSnapshot {
+    static final int MAGIC = 0x52434353; // "RCCS"
+    static final int VERSION = 1;
+    static final int HEADER_INTS = 4;
+
+    static final int STRING_OFFSETS = 0;
+    static final int STRING_DATA = 1;
+    static final int REGION_DICT = 2;
+    static final int SUBREGION_DICT = 3;
+    static final int CURRENCY_DICT = 4;
+    static final int LANGUAGE_DICT = 5;
+    static final int CCA2 = 6;
+    static final int CCA3 = 7;
+    static final int COMMON_NAME = 8;
+    static final int OFFICIAL_NAME = 9;
+    static final int CAPITAL = 10;
+    static final int REGION = 11;
+    static final int SUBREGION = 12;
+    static final int LAT = 13;
+    static final int LNG = 14;
+    static final int AREA = 15;
+    static final int CURRENCY_OFFSETS = 16;
+    static final int CURRENCY_VALUES = 17;
+    static final int LANGUAGE_OFFSETS = 18;
+    static final int LANGUAGE_VALUES = 19;
+    static final int SECTION_COUNT = 20;
+
+    private final ByteBuffer buffer;
+    private final int rowCount;
+    private final int[] sections = new int[SECTION_COUNT];
+
+    private ColumnarSnapshot(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a columnar country snapshot");
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version: " + buffer.getInt(Integer.BYTES));
+        }
+        this.rowCount = buffer.getInt(2 * Integer.BYTES);
+        for (int i = 0; i < SECTION_COUNT; i++) {
+            sections[i] = buffer.getInt((HEADER_INTS + i) * Integer.BYTES);
+        }
+    }
+
+    /**
+     * Map a snapshot file into memory
+     */
+    public static ColumnarSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new ColumnarSnapshot(mapped);
+        }
+    }
+
+    public int size() {
+        return rowCount;
+    }
+
+    public String cca2(int row) {
+        return string(buffer.getInt(sections[CCA2] + row * Integer.BYTES));
+    }
+
+    public String cca3(int row) {
+        return string(buffer.getInt(sections[CCA3] + row * Integer.BYTES));
+    }
+
+    public String commonName(int row) {
+        return string(buffer.getInt(sections[COMMON_NAME] + row * Integer.BYTES));
+    }
+
+    public String officialName(int row) {
+        return string(buffer.getInt(sections[OFFICIAL_NAME] + row * Integer.BYTES));
+    }
+
+    public String capital(int row) {
+        return string(buffer.getInt(sections[CAPITAL] + row * Integer.BYTES));
+    }
+
+    public String region(int row) {
+        return dictionaryKey(REGION_DICT, regionId(row));
+    }
+
+    /**
+     * Dictionary id of the row's region, -1 when it has none
+     */
+    public int regionId(int row) {
+        return buffer.getShort(sections[REGION] + row * Short.BYTES);
+    }
+
+    public String subregion(int row) {
+        return dictionaryKey(SUBREGION_DICT, subregionId(row));
+    }
+
+    public int subregionId(int row) {
+        return buffer.getShort(sections[SUBREGION] + row * Short.BYTES);
+    }
+
+    public double latitude(int row) {
+        return buffer.getDouble(sections[LAT] + row * Double.BYTES);
+    }
+
+    public double longitude(int row) {
+        return buffer.getDouble(sections[LNG] + row * Double.BYTES);
+    }
+
+    /**
+     * Area in square kilometres, NaN when unknown
+     */
+    public double area(int row) {
+        return buffer.getDouble(sections[AREA] + row * Double.BYTES);
+    }
+
+    public List<String> currencyCodes(int row) {
+        return listValues(CURRENCY_OFFSETS, CURRENCY_VALUES, CURRENCY_DICT, row, false);
+    }
+
+    public List<String> currencyNames(int row) {
+        return listValues(CURRENCY_OFFSETS, CURRENCY_VALUES, CURRENCY_DICT, row, true);
+    }
+
+    public List<String> languageCodes(int row) {
+        return listValues(LANGUAGE_OFFSETS, LANGUAGE_VALUES, LANGUAGE_DICT, row, false);
+    }
+
+    public List<String> languageNames(int row) {
+        return listValues(LANGUAGE_OFFSETS, LANGUAGE_VALUES, LANGUAGE_DICT, row, true);
+    }
+
+    public List<String> regions() {
+        return dictionaryKeys(REGION_DICT);
+    }
+
+    public List<String> subregions() {
+        return dictionaryKeys(SUBREGION_DICT);
+    }
+
+    public List<String> currencies() {
+        return dictionaryKeys(CURRENCY_DICT);
+    }
+
+    public List<String> languages() {
+        return dictionaryKeys(LANGUAGE_DICT);
+    }
+
+    /**
+     * Row of the country with the given cca3 code, or -1 when absent
+     */
+    public int indexOfCca3(String cca3) {
+        int low = 0;
+        int high = rowCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = cca3(mid).compareTo(cca3);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private List<String> listValues(int offsetsSection, int valuesSection, int dictionary, int row, boolean names) {
+        int start = buffer.getInt(sections[offsetsSection] + row * Integer.BYTES);
+        int end = buffer.getInt(sections[offsetsSection] + (row + 1) * Integer.BYTES);
+        if (start == end) {
+            return Collections.emptyList();
+        }
+        List<String> values = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            int id = buffer.getShort(sections[valuesSection] + i * Short.BYTES);
+            values.add(names ? dictionaryName(dictionary, id) : dictionaryKey(dictionary, id));
+        }
+        return values;
+    }
+
+    private List<String> dictionaryKeys(int dictionary) {
+        int count = buffer.getInt(sections[dictionary]);
+        List<String> keys = new ArrayList<>(count);
+        for (int id = 0; id < count; id++) {
+            keys.add(dictionaryKey(dictionary, id));
+        }
+        return keys;
+    }
+
+    private String dictionaryKey(int dictionary, int id) {
+        if (id < 0) {
+            return null;
+        }
+        return string(buffer.getInt(sections[dictionary] + Integer.BYTES + id * 2 * Integer.BYTES));
+    }
+
+    private String dictionaryName(int dictionary, int id) {
+        if (id < 0) {
+            return null;
+        }
+        return string(buffer.getInt(sections[dictionary] + Integer.BYTES + (id * 2 + 1) * Integer.BYTES));
+    }
+
+    private String string(int id) {
+        if (id < 0) {
+            return null;
+        }
+        int start = buffer.getInt(sections[STRING_OFFSETS] + id * Integer.BYTES);
+        int end = buffer.getInt(sections[STRING_OFFSETS] + (id + 1) * Integer.BYTES);
+        byte[] bytes = new byte[end - start];
+        // Duplicate so that concurrent readers never share a buffer position
+        ByteBuffer view = buffer.duplicate();
+        view.position(sections[STRING_DATA] + start);
+        view.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,284 @@
+package com.api.automation.snapshot;
+
+import com.api.automation.models.Country;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a fetched country dataset in the columnar binary format read by {@link ColumnarSnapshot}
+ */
+public class ColumnarSnapshotWriter {
+    private final Map<String, Integer> stringPool = new LinkedHashMap<>();
+    private final Dictionary regions = new Dictionary();
+    private final Dictionary subregions = new Dictionary();
+    private final Dictionary currencies = new Dictionary();
+    private final Dictionary languages = new Dictionary();
+
+    private ColumnarSnapshotWriter() {}
+
+    /**
+     * Write the dataset to a file, ordered by cca3 so that readers can binary search it
+     */
+    public static void write(Country[] dataset, Path file) throws IOException {
+        List<Country> rows = new ArrayList<>();
+        for (Country country : dataset) {
+            if (country.getCca3() != null) {
+                rows.add(country);
+            }
+        }
+        rows.sort(Comparator.comparing(Country::getCca3));
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        // Write to a sibling file first so that readers never map a half written snapshot
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            out.write(new ColumnarSnapshotWriter().encode(rows));
+        }
+        Files.move(temp, file, java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private byte[] encode(List<Country> rows) throws IOException {
+        int count = rows.size();
+        int[] cca2 = new int[count];
+        int[] cca3 = new int[count];
+        int[] commonName = new int[count];
+        int[] officialName = new int[count];
+        int[] capital = new int[count];
+        short[] region = new short[count];
+        short[] subregion = new short[count];
+        double[] lat = new double[count];
+        double[] lng = new double[count];
+        double[] area = new double[count];
+        List<short[]> rowCurrencies = new ArrayList<>(count);
+        List<short[]> rowLanguages = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            Country country = rows.get(i);
+            cca2[i] = intern(country.getCca2());
+            cca3[i] = intern(country.getCca3());
+            Map<String, Object> name = country.getName();
+            commonName[i] = intern(name == null ? null : stringValue(name.get("common")));
+            officialName[i] = intern(name == null ? null : stringValue(name.get("official")));
+            List<String> capitals = country.getCapital();
+            capital[i] = intern(capitals == null || capitals.isEmpty() ? null : capitals.get(0));
+            region[i] = regions.indexOf(country.getRegion(), null);
+            subregion[i] = subregions.indexOf(country.getSubregion(), null);
+            List<Double> latlng = country.getLatLngCoordinates();
+            lat[i] = latlng != null && latlng.size() == 2 ? latlng.get(0) : Double.NaN;
+            lng[i] = latlng != null && latlng.size() == 2 ? latlng.get(1) : Double.NaN;
+            area[i] = parseDouble(country.getArea());
+            rowCurrencies.add(currencyIds(country));
+            rowLanguages.add(languageIds(country));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        int[] sectionOffsets = new int[ColumnarSnapshot.SECTION_COUNT];
+        int headerSize = ColumnarSnapshot.HEADER_INTS * Integer.BYTES
+                + ColumnarSnapshot.SECTION_COUNT * Integer.BYTES;
+        // Sections are appended after the header, whose offsets are patched in at the end
+        out.write(new byte[headerSize]);
+
+        List<byte[]> pool = new ArrayList<>(stringPool.size());
+        for (String value : stringPool.keySet()) {
+            pool.add(value.getBytes(StandardCharsets.UTF_8));
+        }
+        sectionOffsets[ColumnarSnapshot.STRING_OFFSETS] = out.size();
+        int position = 0;
+        for (byte[] value : pool) {
+            out.writeInt(position);
+            position += value.length;
+        }
+        out.writeInt(position);
+        sectionOffsets[ColumnarSnapshot.STRING_DATA] = out.size();
+        for (byte[] value : pool) {
+            out.write(value);
+        }
+
+        sectionOffsets[ColumnarSnapshot.REGION_DICT] = out.size();
+        regions.writeTo(out);
+        sectionOffsets[ColumnarSnapshot.SUBREGION_DICT] = out.size();
+        subregions.writeTo(out);
+        sectionOffsets[ColumnarSnapshot.CURRENCY_DICT] = out.size();
+        currencies.writeTo(out);
+        sectionOffsets[ColumnarSnapshot.LANGUAGE_DICT] = out.size();
+        languages.writeTo(out);
+
+        sectionOffsets[ColumnarSnapshot.CCA2] = writeInts(out, cca2);
+        sectionOffsets[ColumnarSnapshot.CCA3] = writeInts(out, cca3);
+        sectionOffsets[ColumnarSnapshot.COMMON_NAME] = writeInts(out, commonName);
+        sectionOffsets[ColumnarSnapshot.OFFICIAL_NAME] = writeInts(out, officialName);
+        sectionOffsets[ColumnarSnapshot.CAPITAL] = writeInts(out, capital);
+        sectionOffsets[ColumnarSnapshot.REGION] = writeShorts(out, region);
+        sectionOffsets[ColumnarSnapshot.SUBREGION] = writeShorts(out, subregion);
+        sectionOffsets[ColumnarSnapshot.LAT] = writeDoubles(out, lat);
+        sectionOffsets[ColumnarSnapshot.LNG] = writeDoubles(out, lng);
+        sectionOffsets[ColumnarSnapshot.AREA] = writeDoubles(out, area);
+        sectionOffsets[ColumnarSnapshot.CURRENCY_OFFSETS] = writeListOffsets(out, rowCurrencies);
+        sectionOffsets[ColumnarSnapshot.CURRENCY_VALUES] = writeListValues(out, rowCurrencies);
+        sectionOffsets[ColumnarSnapshot.LANGUAGE_OFFSETS] = writeListOffsets(out, rowLanguages);
+        sectionOffsets[ColumnarSnapshot.LANGUAGE_VALUES] = writeListValues(out, rowLanguages);
+        out.flush();
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream(headerSize);
+        DataOutputStream headerOut = new DataOutputStream(header);
+        headerOut.writeInt(ColumnarSnapshot.MAGIC);
+        headerOut.writeInt(ColumnarSnapshot.VERSION);
+        headerOut.writeInt(count);
+        headerOut.writeInt(pool.size());
+        for (int offset : sectionOffsets) {
+            headerOut.writeInt(offset);
+        }
+        headerOut.flush();
+
+        byte[] result = bytes.toByteArray();
+        System.arraycopy(header.toByteArray(), 0, result, 0, headerSize);
+        return result;
+    }
+
+    private short[] currencyIds(Country country) {
+        Map<String, ?> values = country.getCurrencies();
+        if (values == null) {
+            return new short[0];
+        }
+        short[] ids = new short[values.size()];
+        int i = 0;
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            Object details = entry.getValue();
+            String name = details instanceof Map ? stringValue(((Map<?, ?>) details).get("name")) : null;
+            ids[i++] = currencies.indexOf(entry.getKey(), name);
+        }
+        return ids;
+    }
+
+    private short[] languageIds(Country country) {
+        Map<String, ?> values = country.getLanguages();
+        if (values == null) {
+            return new short[0];
+        }
+        short[] ids = new short[values.size()];
+        int i = 0;
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            ids[i++] = languages.indexOf(entry.getKey(), stringValue(entry.getValue()));
+        }
+        return ids;
+    }
+
+    private int intern(String value) {
+        if (value == null) {
+            return -1;
+        }
+        return stringPool.computeIfAbsent(value, key -> stringPool.size());
+    }
+
+    private static String stringValue(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    private static double parseDouble(String value) {
+        if (value == null) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static int writeInts(DataOutputStream out, int[] values) throws IOException {
+        int offset = out.size();
+        for (int value : values) {
+            out.writeInt(value);
+        }
+        return offset;
+    }
+
+    private static int writeShorts(DataOutputStream out, short[] values) throws IOException {
+        int offset = out.size();
+        for (short value : values) {
+            out.writeShort(value);
+        }
+        return offset;
+    }
+
+    private static int writeDoubles(DataOutputStream out, double[] values) throws IOException {
+        int offset = out.size();
+        for (double value : values) {
+            out.writeDouble(value);
+        }
+        return offset;
+    }
+
+    private static int writeListOffsets(DataOutputStream out, List<short[]> lists) throws IOException {
+        int offset = out.size();
+        int position = 0;
+        for (short[] list : lists) {
+            out.writeInt(position);
+            position += list.length;
+        }
+        out.writeInt(position);
+        return offset;
+    }
+
+    private static int writeListValues(DataOutputStream out, List<short[]> lists) throws IOException {
+        int offset = out.size();
+        for (short[] list : lists) {
+            writeShorts(out, list);
+        }
+        return offset;
+    }
+
+    /**
+     * Dictionary of distinct keys, each with an optional display name, stored as string pool ids
+     */
+    private class Dictionary {
+        private final Map<String, Short> ids = new LinkedHashMap<>();
+        private int[] keys = new int[16];
+        private int[] names = new int[16];
+
+        short indexOf(String key, String name) {
+            if (key == null) {
+                return -1;
+            }
+            Short id = ids.get(key);
+            if (id != null) {
+                return id;
+            }
+            int next = ids.size();
+            if (next > Short.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct dictionary values");
+            }
+            if (next == keys.length) {
+                keys = Arrays.copyOf(keys, next * 2);
+                names = Arrays.copyOf(names, next * 2);
+            }
+            keys[next] = intern(key);
+            names[next] = intern(name);
+            ids.put(key, (short) next);
+            return (short) next;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeInt(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                out.writeInt(keys[i]);
+                out.writeInt(names[i]);
+            }
+        }
+    }
+}
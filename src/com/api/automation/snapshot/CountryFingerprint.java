@@ -0,0 +1,109 @@
+package com.api.automation.snapshot;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Stable content hashes of a single Country: one per field, one per field group
+ * and one for the whole record
+ */
+public class CountryFingerprint {
+    private static final ObjectMapper CANONICAL = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private String hash;
+    private Map<String, String> groups = new TreeMap<>();
+    private Map<String, String> fields = new TreeMap<>();
+
+    public CountryFingerprint() {}
+
+    /**
+     * Compute the fingerprint of a raw country record as returned by the API.
+     * The raw JSON is hashed rather than the Country model, which drops or
+     * reshapes fields such as population and coatOfArms.
+     */
+    public static CountryFingerprint of(JsonNode record) {
+        Map<FieldGroup, StringBuilder> groupContent = new EnumMap<>(FieldGroup.class);
+        CountryFingerprint fingerprint = new CountryFingerprint();
+        // Visit fields in name order so the hashes do not depend on the API's field order
+        Map<String, JsonNode> fields = new TreeMap<>();
+        record.fields().forEachRemaining(field -> fields.put(field.getKey(), field.getValue()));
+
+        for (Map.Entry<String, JsonNode> field : fields.entrySet()) {
+            String fieldHash = digest(canonicalJson(field.getValue()));
+            fingerprint.fields.put(field.getKey(), fieldHash);
+            groupContent.computeIfAbsent(FieldGroup.of(field.getKey()), group -> new StringBuilder())
+                    .append(field.getKey()).append('=').append(fieldHash).append(';');
+        }
+
+        StringBuilder content = new StringBuilder();
+        for (FieldGroup group : FieldGroup.values()) {
+            StringBuilder groupFields = groupContent.get(group);
+            String groupHash = digest(groupFields == null ? "" : groupFields.toString());
+            fingerprint.groups.put(group.name(), groupHash);
+            content.append(group.name()).append('=').append(groupHash).append(';');
+        }
+
+        fingerprint.hash = digest(content.toString());
+        return fingerprint;
+    }
+
+    /**
+     * Serialize a value with object keys sorted at every level
+     */
+    static String canonicalJson(JsonNode value) {
+        try {
+            return CANONICAL.writeValueAsString(CANONICAL.convertValue(value, Object.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize field value: " + value, e);
+        }
+    }
+
+    private static String digest(String content) {
+        try {
+            byte[] bytes = MessageDigest.getInstance("SHA-256")
+                    .digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(16);
+            // 64 bits is plenty to detect changes across a few hundred records
+            for (int i = 0; i < 8; i++) {
+                hex.append(String.format("%02x", bytes[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    public Map<String, String> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(Map<String, String> groups) {
+        this.groups = groups;
+    }
+
+    public Map<String, String> getFields() {
+        return fields;
+    }
+
+    public void setFields(Map<String, String> fields) {
+        this.fields = fields;
+    }
+}
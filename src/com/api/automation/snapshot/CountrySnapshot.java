@@ -0,0 +1,101 @@
+package com.api.automation.snapshot;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Persisted fingerprints of every country seen in a run, keyed by cca3
+ */
+public class CountrySnapshot {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private int version = 1;
+    private long createdAt;
+    private Map<String, CountryFingerprint> countries = new TreeMap<>();
+    private Set<String> pendingValidation = new TreeSet<>();
+
+    public CountrySnapshot() {}
+
+    /**
+     * Fingerprint a fetched dataset given as the API's raw JSON records.
+     * Records without a cca3 cannot be keyed and are left out.
+     */
+    public static CountrySnapshot capture(Iterable<JsonNode> records) {
+        CountrySnapshot snapshot = new CountrySnapshot();
+        snapshot.createdAt = System.currentTimeMillis();
+        for (JsonNode record : records) {
+            String cca3 = record.path("cca3").asText(null);
+            if (cca3 != null) {
+                snapshot.countries.put(cca3, CountryFingerprint.of(record));
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Load a snapshot from disk, returning an empty snapshot when none exists yet
+     */
+    public static CountrySnapshot load(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return new CountrySnapshot();
+        }
+        return MAPPER.readValue(file.toFile(), CountrySnapshot.class);
+    }
+
+    public void save(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        MAPPER.writeValue(file.toFile(), this);
+    }
+
+    /**
+     * Mark a record that failed validation so that the next run validates it again. Its
+     * fingerprint is kept, so the diff still only reports what changed upstream.
+     */
+    public void markPendingValidation(String cca3) {
+        pendingValidation.add(cca3);
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    public void setVersion(int version) {
+        this.version = version;
+    }
+
+    public long getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(long createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Map<String, CountryFingerprint> getCountries() {
+        return countries;
+    }
+
+    public void setCountries(Map<String, CountryFingerprint> countries) {
+        this.countries = new TreeMap<>(countries);
+    }
+
+    public Set<String> getPendingValidation() {
+        return pendingValidation;
+    }
+
+    public void setPendingValidation(Set<String> pendingValidation) {
+        this.pendingValidation = new TreeSet<>(pendingValidation);
+    }
+}
@@ -0,0 +1,42 @@
+package com.api.automation.snapshot;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Groups of Country fields that are hashed together in a snapshot
+ * A changed group is only descended into field by field when its hash differs
+ */
+public enum FieldGroup {
+    IDENTITY("name", "tld", "cca2", "cca3", "ccn3", "cioc", "flag", "flags", "altSpellings"),
+    GEOGRAPHY("capital", "capitalInfo", "region", "subregion", "continents", "latlng", "area",
+            "landlocked", "borders", "timezones"),
+    ECONOMY("currencies", "gini", "population", "car", "postalCode", "idd"),
+    CULTURE("languages", "demonyms", "translations", "startOfWeek"),
+    STATUS("independent", "status", "unMember", "fifa", "maps", "coatOfArms"),
+    // Any field the API returns that is not listed above
+    OTHER();
+
+    private final List<String> fields;
+
+    FieldGroup(String... fields) {
+        this.fields = Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    public List<String> getFields() {
+        return fields;
+    }
+
+    /**
+     * Group a field is hashed in
+     */
+    public static FieldGroup of(String field) {
+        for (FieldGroup group : values()) {
+            if (group.fields.contains(field)) {
+                return group;
+            }
+        }
+        return OTHER;
+    }
+}
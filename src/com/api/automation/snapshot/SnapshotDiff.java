@@ -0,0 +1,117 @@
+package com.api.automation.snapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Record and field level differences between two country snapshots
+ */
+public class SnapshotDiff {
+    private final Set<String> added = new TreeSet<>();
+    private final Set<String> removed = new TreeSet<>();
+    private final Map<String, List<String>> changed = new TreeMap<>();
+    private final Set<String> pending = new TreeSet<>();
+    private int unchanged;
+
+    private SnapshotDiff() {}
+
+    /**
+     * Compare two snapshots, descending into fields only for groups whose hash differs
+     */
+    public static SnapshotDiff between(CountrySnapshot previous, CountrySnapshot current) {
+        SnapshotDiff diff = new SnapshotDiff();
+        Map<String, CountryFingerprint> before = previous.getCountries();
+        Map<String, CountryFingerprint> after = current.getCountries();
+        diff.pending.addAll(previous.getPendingValidation());
+
+        for (Map.Entry<String, CountryFingerprint> entry : after.entrySet()) {
+            CountryFingerprint old = before.get(entry.getKey());
+            if (old == null) {
+                diff.added.add(entry.getKey());
+            } else if (old.getHash().equals(entry.getValue().getHash())) {
+                diff.unchanged++;
+            } else {
+                diff.changed.put(entry.getKey(), changedFields(old, entry.getValue()));
+            }
+        }
+        for (String cca3 : before.keySet()) {
+            if (!after.containsKey(cca3)) {
+                diff.removed.add(cca3);
+            }
+        }
+        return diff;
+    }
+
+    private static List<String> changedFields(CountryFingerprint old, CountryFingerprint current) {
+        Set<String> names = new TreeSet<>(old.getFields().keySet());
+        names.addAll(current.getFields().keySet());
+        List<String> fields = new ArrayList<>();
+        for (String field : names) {
+            String group = FieldGroup.of(field).name();
+            String oldGroup = old.getGroups().get(group);
+            if (oldGroup != null && oldGroup.equals(current.getGroups().get(group))) {
+                continue;
+            }
+            String oldField = old.getFields().get(field);
+            if (oldField == null || !oldField.equals(current.getFields().get(field))) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Whether a record must be validated again in this run: it is new, it changed, or it failed last time
+     */
+    public boolean needsValidation(String cca3) {
+        return added.contains(cca3) || changed.containsKey(cca3) || pending.contains(cca3);
+    }
+
+    public boolean hasChanges() {
+        return !added.isEmpty() || !removed.isEmpty() || !changed.isEmpty();
+    }
+
+    public Set<String> getAdded() {
+        return Collections.unmodifiableSet(added);
+    }
+
+    public Set<String> getRemoved() {
+        return Collections.unmodifiableSet(removed);
+    }
+
+    public Map<String, List<String>> getChanged() {
+        return Collections.unmodifiableMap(changed);
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Human readable report of what changed upstream
+     */
+    public String toReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("Country snapshot diff\n")
+                .append("  added:     ").append(added.size()).append('\n')
+                .append("  removed:   ").append(removed.size()).append('\n')
+                .append("  changed:   ").append(changed.size()).append('\n')
+                .append("  unchanged: ").append(unchanged).append('\n');
+        for (String cca3 : added) {
+            report.append("+ ").append(cca3).append('\n');
+        }
+        for (String cca3 : removed) {
+            report.append("- ").append(cca3).append('\n');
+        }
+        for (Map.Entry<String, List<String>> entry : changed.entrySet()) {
+            report.append("~ ").append(entry.getKey())
+                    .append(' ').append(String.join(", ", entry.getValue())).append('\n');
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,89 @@
+package com.api.automation.tests;
+
+import com.api.automation.base.BaseTest;
+import com.api.automation.config.ConfigManager;
+import com.api.automation.fuzz.DifferentialFuzzer;
+import com.api.automation.fuzz.FuzzReport;
+import com.api.automation.fuzz.LocalOracle;
+import com.api.automation.fuzz.QueryCase;
+import com.api.automation.fuzz.QueryCaseGenerator;
+import com.api.automation.models.Country;
+import com.api.automation.snapshot.ColumnarSnapshot;
+import com.api.automation.snapshot.ColumnarSnapshotWriter;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Differential fuzz tests for REST Countries API
+ * Compares live search results with a locally computed oracle
+ */
+@DisplayName("REST Countries API Differential Fuzz Tests")
+@Isolated("The fuzzer sizes its own concurrency to the API's rate limit")
+public class CountriesApiFuzzIT extends BaseTest {
+    private static final String DATASET_FIELDS =
+            "cca2,cca3,name,region,subregion,currencies,languages,capital,latlng,area";
+
+    @Test
+    @DisplayName("Generated queries should match the local oracle")
+    public void testGeneratedQueriesMatchOracle() throws Exception {
+        assumeTrue(ConfigManager.isFuzzEnabled(), "Differential fuzzing is disabled (fuzz.enabled)");
+
+        LocalOracle oracle = new LocalOracle(openDataset(Paths.get(ConfigManager.getHistoryDir(), "countries.bin")));
+        List<QueryCase> cases = new QueryCaseGenerator(oracle)
+                .generate(ConfigManager.getFuzzMaxCases(), ConfigManager.getFuzzSeed());
+        logger.info("Generated {} query cases from {} countries", cases.size(), oracle.getDataset().size());
+
+        FuzzReport report = new DifferentialFuzzer(apiClient, oracle,
+                ConfigManager.getFuzzConcurrency(), ConfigManager.getFuzzShrinkLimit()).run(cases);
+
+        Path reportFile = Paths.get(ConfigManager.getReportDir(), "fuzz-report.txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.write(reportFile, report.toReport().getBytes(StandardCharsets.UTF_8));
+        logger.info("Fuzzed {} cases in {}ms ({} cases/s, {} throttled)", report.getTotal(),
+                report.getElapsedMillis(), String.format("%.1f", report.getThroughput()), report.getThrottled());
+
+        assertTrue(report.getFailures().isEmpty(),
+                report.getFailures().size() + " cases disagreed with the oracle, see " + reportFile);
+    }
+
+    /**
+     * Reuse the mapped snapshot across runs; fetch it when missing, stale, unreadable or asked to refresh
+     */
+    private ColumnarSnapshot openDataset(Path datasetFile) throws IOException {
+        Duration maxAge = Duration.ofHours(ConfigManager.getFuzzDatasetMaxAgeHours());
+        if (!Files.exists(datasetFile) || ConfigManager.isFuzzDatasetRefresh()
+                || Files.getLastModifiedTime(datasetFile).toInstant().isBefore(Instant.now().minus(maxAge))) {
+            fetchDataset(datasetFile);
+            return ColumnarSnapshot.open(datasetFile);
+        }
+        try {
+            return ColumnarSnapshot.open(datasetFile);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            // Written by another snapshot version or truncated
+            logger.warn("Fetching the dataset again, {} is unreadable: {}", datasetFile, e.getMessage());
+            fetchDataset(datasetFile);
+            return ColumnarSnapshot.open(datasetFile);
+        }
+    }
+
+    private void fetchDataset(Path datasetFile) throws IOException {
+        Response response = apiClient.get("/all", Collections.singletonMap("fields", DATASET_FIELDS));
+        assertEquals(200, response.getStatusCode(), "Should fetch the dataset");
+        ColumnarSnapshotWriter.write(response.as(Country[].class), datasetFile);
+    }
+}
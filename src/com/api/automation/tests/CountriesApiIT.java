@@ -1,14 +1,28 @@
 package com.api.automation.tests;
 
 import com.api.automation.base.BaseTest;
+import com.api.automation.config.ConfigManager;
+import com.api.automation.contract.ContractViolation;
+import com.api.automation.contract.CountryContract;
 import com.api.automation.models.Country;
+import com.api.automation.snapshot.ColumnarSnapshot;
+import com.api.automation.snapshot.ColumnarSnapshotWriter;
+import com.api.automation.snapshot.CountrySnapshot;
+import com.api.automation.snapshot.SnapshotDiff;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
-import java.util.Arrays;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 
 import static io.restassured.RestAssured.given;
@@ -142,11 +156,9 @@ public class CountriesApiIT extends BaseTest {
     public void testCountryObjectStructure() {
         Response response = apiClient.get("/alpha/us");
         
-        response.then()
-                .statusCode(200)
-                .body("[0].name", notNullValue())
-                .body("[0].cca2", notNullValue())
-                .body("[0].region", notNullValue());
+        assertEquals(200, response.getStatusCode());
+        List<ContractViolation> violations = CountryContract.validator().validate(response.asByteArray());
+        assertTrue(violations.isEmpty(), "Response should match the Country contract: " + violations);
         
         Country country = response.as(Country[].class)[0];
         assertNotNull(country.getName(), "Country name should not be null");
@@ -232,4 +244,114 @@ public class CountriesApiIT extends BaseTest {
         assertTrue(filteredBody.length() < allFieldsBody.length(), 
                 "Filtered response should be smaller");
     }
+
+    @Test
+    @DisplayName("Countries changed since the last snapshot should have valid records")
+    public void testChangedCountriesSinceLastSnapshot() throws IOException {
+        List<JsonNode> records = new ArrayList<>();
+        ObjectMapper mapper = new ObjectMapper();
+        for (String region : new String[]{"Africa", "Americas", "Antarctic", "Asia", "Europe", "Oceania"}) {
+            Response response = apiClient.get("/region/" + region);
+            assertEquals(200, response.getStatusCode(), "Should fetch region: " + region);
+            mapper.readTree(response.asByteArray()).forEach(records::add);
+        }
+
+        Path snapshotFile = Paths.get(ConfigManager.getHistoryDir(), "countries-snapshot.json");
+        CountrySnapshot previous = CountrySnapshot.load(snapshotFile);
+        CountrySnapshot current = CountrySnapshot.capture(records);
+        SnapshotDiff diff = SnapshotDiff.between(previous, current);
+
+        Path reportFile = Paths.get(ConfigManager.getReportDir(), "countries-diff.txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.write(reportFile, diff.toReport().getBytes(StandardCharsets.UTF_8));
+
+        List<String> failures = new ArrayList<>();
+        int validated = 0;
+        for (JsonNode record : records) {
+            String cca3 = record.path("cca3").asText(null);
+            // Records without a cca3 are not in the snapshot and are always validated
+            if (cca3 != null && !diff.needsValidation(cca3)) {
+                continue;
+            }
+            validated++;
+            String problem;
+            try {
+                problem = validateRecord(mapper.treeToValue(record, Country.class));
+            } catch (IOException e) {
+                problem = "cannot be read as a Country: " + e.getMessage();
+            }
+            if (problem != null) {
+                failures.add(cca3 + ": " + problem);
+                if (cca3 != null) {
+                    current.markPendingValidation(cca3);
+                }
+            }
+        }
+        current.save(snapshotFile);
+
+        logger.info("Validated {} of {} countries ({} unchanged, {} removed)",
+                validated, records.size(), diff.getUnchanged(), diff.getRemoved().size());
+        assertTrue(failures.isEmpty(), "Invalid country records: " + failures);
+    }
+
+    @Test
+    @DisplayName("Columnar snapshot should round trip a fetched region")
+    public void testColumnarSnapshotRoundTrip() throws IOException {
+        Response response = apiClient.get("/region/Europe");
+        assertEquals(200, response.getStatusCode());
+        Country[] countries = response.as(Country[].class);
+
+        Path file = Paths.get(ConfigManager.getHistoryDir(), "countries-europe.bin");
+        ColumnarSnapshotWriter.write(countries, file);
+        ColumnarSnapshot snapshot = ColumnarSnapshot.open(file);
+
+        assertEquals(countries.length, snapshot.size(), "Every country should be written");
+        for (Country country : countries) {
+            int row = snapshot.indexOfCca3(country.getCca3());
+            assertTrue(row >= 0, "Should find " + country.getCca3());
+            assertEquals(country.getCca2(), snapshot.cca2(row));
+            assertEquals(country.getName().get("common"), snapshot.commonName(row));
+            assertEquals(country.getRegion(), snapshot.region(row));
+            assertEquals(country.getSubregion(), snapshot.subregion(row));
+            if (country.getCurrencies() != null) {
+                assertEquals(new ArrayList<>(country.getCurrencies().keySet()), snapshot.currencyCodes(row));
+            }
+            if (country.getLanguages() != null) {
+                assertEquals(new ArrayList<>(country.getLanguages().keySet()), snapshot.languageCodes(row));
+                assertEquals(new ArrayList<>(country.getLanguages().values()), snapshot.languageNames(row));
+            }
+            List<String> capitals = country.getCapital();
+            assertEquals(capitals == null || capitals.isEmpty() ? null : capitals.get(0), snapshot.capital(row));
+            List<Double> latlng = country.getLatLngCoordinates();
+            assertEquals(latlng.get(0).doubleValue(), snapshot.latitude(row), 0.0, "Latitude of " + country.getCca3());
+            assertEquals(latlng.get(1).doubleValue(), snapshot.longitude(row), 0.0, "Longitude of " + country.getCca3());
+            if (country.getArea() == null) {
+                assertTrue(Double.isNaN(snapshot.area(row)), "Unknown area should be NaN");
+            } else {
+                assertEquals(Double.parseDouble(country.getArea()), snapshot.area(row), 0.0,
+                        "Area of " + country.getCca3());
+            }
+        }
+        assertEquals(-1, snapshot.indexOfCca3("ZZZ"));
+    }
+
+    private String validateRecord(Country country) {
+        if (country.getCca3() == null || country.getCca3().length() != 3) {
+            return "cca3 should be 3 letters";
+        }
+        if (country.getCca2() == null || country.getCca2().length() != 2) {
+            return "cca2 should be 2 letters";
+        }
+        if (country.getName() == null || country.getName().get("common") == null) {
+            return "common name should not be null";
+        }
+        if (country.getRegion() == null || country.getRegion().isEmpty()) {
+            return "region should not be empty";
+        }
+        List<Double> latlng = country.getLatLngCoordinates();
+        if (latlng == null || latlng.size() != 2) {
+            return "latlng should have 2 coordinates";
+        }
+        return null;
+    }
 }
@@ -0,0 +1,41 @@
+package com.api.automation.tests;
+
+import com.api.automation.base.BaseTest;
+import com.api.automation.config.ConfigManager;
+import com.api.automation.perf.ProbeEndpoint;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * Latency probe for REST Countries API
+ * Requests each gated endpoint repeatedly so the performance gate compares
+ * real samples instead of the one or two calls a functional test makes
+ */
+@DisplayName("REST Countries API Latency Probe")
+@Isolated("Latencies measured next to other tests would mostly measure their load")
+public class LatencyProbeIT extends BaseTest {
+
+    @Test
+    @DisplayName("Gated endpoints should answer every probe request")
+    public void testProbeGatedEndpoints() {
+        assumeFalse("off".equals(ConfigManager.getPerfGateMode()), "Performance gate is off (perf.gate.mode)");
+
+        List<ProbeEndpoint> endpoints = ProbeEndpoint.configured();
+        int samples = ConfigManager.getPerfProbeSamples();
+        // Round robin, so that a slow patch on the network hits every endpoint alike
+        for (int i = 0; i < samples; i++) {
+            for (ProbeEndpoint endpoint : endpoints) {
+                Response response = apiClient.get(endpoint.getPath(), endpoint.getQueryParams());
+                assertEquals(200, response.getStatusCode(), endpoint + " should answer the probe");
+            }
+        }
+        logger.info("Probed {} endpoints {} times each", endpoints.size(), samples);
+    }
+}